@@ -17,17 +17,21 @@
 package com.cxxwl96.hiatstudio.ast;
 
 import com.google.auto.service.AutoService;
-import com.sun.source.tree.Tree;
 import com.sun.tools.javac.api.JavacTrees;
+import com.sun.tools.javac.code.Flags;
 import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
 import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
-import com.sun.tools.javac.tree.TreeTranslator;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Name;
 import com.sun.tools.javac.util.Names;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -38,7 +42,14 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
 
 /**
  * EnableScanDocument处理器
@@ -61,6 +72,15 @@ public class EnableScanDocumentProcessor extends AbstractProcessor {
     // 提供了创建标识符的方法
     private Names names;
 
+    // 功能接口绑定器源码生成器
+    private FunctionBinderGenerator binderGenerator;
+
+    // 功能接口文档资源生成器
+    private FunctionDocumentGenerator documentGenerator;
+
+    // 功能接口签名的结构检查
+    private FunctionSignatureChecker signatureChecker;
+
     /**
      * 初始化
      *
@@ -74,6 +94,9 @@ public class EnableScanDocumentProcessor extends AbstractProcessor {
         Context context = ((JavacProcessingEnvironment) processingEnv).getContext();
         this.treeMaker = TreeMaker.instance(context);
         this.names = Names.instance(context);
+        this.binderGenerator = new FunctionBinderGenerator(processingEnv);
+        this.documentGenerator = new FunctionDocumentGenerator(processingEnv);
+        this.signatureChecker = new FunctionSignatureChecker(processingEnv);
     }
 
     /**
@@ -109,42 +132,123 @@ public class EnableScanDocumentProcessor extends AbstractProcessor {
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         // 获取被EnableScanDocument标注的元素
         roundEnv.getElementsAnnotatedWith(EnableInjectDocument.class).forEach(element -> {
-            // 得到对应的语法树，并执行翻译
-            javacTrees.getTree(element).accept(new TreeTranslator() {
-                @Override
-                public void visitClassDef(JCTree.JCClassDecl classDecl) {
-                    // 获取需要被文档注入的注解
-                    final String documentAnnoType = getDocumentAnnoCanonicalName(classDecl);
-                    if (documentAnnoType == null) {
-                        return;
-                    }
-                    // List<JCTree.JCMethodDecl> methodDecls = List.nil();
-                    // 在抽象树中找出所有的变量
-                    for (JCTree tree : classDecl.defs) {
-                        // 过滤非方法
-                        if (!tree.getKind().equals(Tree.Kind.METHOD)) {
-                            continue;
-                        }
-                        JCTree.JCMethodDecl methodDecl = (JCTree.JCMethodDecl) tree;
-                        // 判断方法上是否包含需要被文档注入的注解
-                        for (JCTree.JCAnnotation annotation : methodDecl.getModifiers().getAnnotations()) {
-                            System.out.println();
-                        }
-
-                        // methodDecls = methodDecls.append(methodDecl);
-                    }
-                    // 对于变量进行生成方法的操作
-                    // jcVariableDeclList.forEach(jcVariableDecl -> {
-                    //     messager.printMessage(Diagnostic.Kind.NOTE, jcVariableDecl.getName() + " has been processed");
-                    //     classDecl.defs = classDecl.defs.prepend(makeGetterMethodDecl(jcVariableDecl));
-                    // });
-                    super.visitClassDef(classDecl);
-                }
-            });
+            if (!(element instanceof TypeElement)) {
+                return;
+            }
+            final TypeElement typeElement = (TypeElement) element;
+            // 得到对应的语法树
+            final JCTree.JCClassDecl classDecl = javacTrees.getTree(typeElement);
+            // 获取需要被文档注入的注解
+            final String documentAnnoType = getDocumentAnnoCanonicalName(classDecl);
+            if (documentAnnoType == null) {
+                return;
+            }
+            // 检查功能接口签名的结构，结构错误时不再生成
+            if (!signatureChecker.check(typeElement, documentAnnoType)) {
+                return;
+            }
+            // 生成功能接口的文档资源文件
+            try {
+                documentGenerator.generate(typeElement, documentAnnoType);
+            } catch (IOException exception) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate function documents: " + exception.getMessage(), typeElement);
+            }
+            // 生成功能接口的绑定器
+            generateFunctionBinders(typeElement, classDecl, documentAnnoType);
         });
         return true;
     }
 
+    /*
+     * 为组件中被文档注入注解标注的方法生成绑定器，私有方法在组件中注入桥接方法供绑定器调用
+     */
+    private void generateFunctionBinders(TypeElement typeElement, JCTree.JCClassDecl classDecl,
+        String documentAnnoType) {
+        if (!binderGenerator.isAvailable() || !binderGenerator.isSupportedComponent(typeElement)) {
+            return;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (FunctionBinderGenerator.getAnnotation(method, documentAnnoType) == null) {
+                continue;
+            }
+            final String source = binderGenerator.generate(typeElement, method);
+            if (source == null) {
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                    "FunctionBinder is not generated, the validation handlers will be used at runtime.", method);
+                continue;
+            }
+            if (binderGenerator.needBridge(method)) {
+                // 注入的方法在下一轮处理时重新进入符号表，生成的绑定器可以直接调用
+                classDecl.defs = classDecl.defs.append(makeBridgeMethodDecl(classDecl, method));
+            }
+            final String binderClassName = binderGenerator.getBinderClassName(typeElement, method);
+            try (Writer writer = processingEnv.getFiler().createSourceFile(binderClassName, typeElement)
+                .openWriter()) {
+                writer.write(source);
+            } catch (IOException exception) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + binderClassName + ": " + exception.getMessage(), method);
+            }
+        }
+    }
+
+    /*
+     * 生成私有功能接口的桥接方法：static Object $hi$方法名$参数个数(组件 self, Object[] args)
+     */
+    private JCTree.JCMethodDecl makeBridgeMethodDecl(JCTree.JCClassDecl classDecl, ExecutableElement method) {
+        final JCTree.JCMethodDecl methodDecl = (JCTree.JCMethodDecl) javacTrees.getTree(method);
+        treeMaker.at(methodDecl.pos);
+        final Name self = names.fromString("self");
+        final Name args = names.fromString("args");
+        // 生成入参
+        final JCTree.JCVariableDecl selfParam = treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), self,
+            treeMaker.Ident(classDecl.name), null);
+        final JCTree.JCVariableDecl argsParam = treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), args,
+            treeMaker.TypeArray(makeQualifiedName("java.lang.Object")), null);
+        // 生成调用 例如 self.method((int) args[0], (java.lang.String) args[1])
+        final ListBuffer<JCTree.JCExpression> arguments = new ListBuffer<>();
+        for (int index = 0; index < method.getParameters().size(); index++) {
+            final TypeMirror type = processingEnv.getTypeUtils().erasure(method.getParameters().get(index).asType());
+            arguments.append(treeMaker.TypeCast(makeTypeTree(type),
+                treeMaker.Indexed(treeMaker.Ident(args), treeMaker.Literal(index))));
+        }
+        final JCTree.JCExpression receiver = method.getModifiers().contains(Modifier.STATIC)
+            ? treeMaker.Ident(classDecl.name) : treeMaker.Ident(self);
+        final JCTree.JCMethodInvocation invocation = treeMaker.Apply(List.nil(),
+            treeMaker.Select(receiver, methodDecl.name), arguments.toList());
+        final ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            statements.append(treeMaker.Exec(invocation));
+            statements.append(treeMaker.Return(treeMaker.Literal(TypeTag.BOT, null)));
+        } else {
+            statements.append(treeMaker.Return(invocation));
+        }
+        return treeMaker.MethodDef(treeMaker.Modifiers(Flags.STATIC),
+            names.fromString(binderGenerator.getBridgeName(method)), makeQualifiedName("java.lang.Object"),
+            List.nil(), List.of(selfParam, argsParam), List.of(makeQualifiedName("java.lang.Throwable")),
+            treeMaker.Block(0, statements.toList()), null);
+    }
+
+    private JCTree.JCExpression makeTypeTree(TypeMirror erasure) {
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return treeMaker.TypeArray(makeTypeTree(((ArrayType) erasure).getComponentType()));
+        }
+        if (erasure.getKind().isPrimitive()) {
+            return treeMaker.TypeIdent(TypeTag.valueOf(erasure.getKind().name()));
+        }
+        return makeQualifiedName(FunctionBinderGenerator.getTypeName(erasure));
+    }
+
+    private JCTree.JCExpression makeQualifiedName(String qualifiedName) {
+        final String[] parts = qualifiedName.split("\\.");
+        JCTree.JCExpression expression = treeMaker.Ident(names.fromString(parts[0]));
+        for (int index = 1; index < parts.length; index++) {
+            expression = treeMaker.Select(expression, names.fromString(parts[index]));
+        }
+        return expression;
+    }
+
     /*
      * 获取需要被文档注入的注解类型的标准名
      */
@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.ast;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * 功能接口绑定器源码生成器
+ * 在编译期为功能接口生成com.cxxwl96.hiatstudio.validate.binder.FunctionBinder的实现，参数的读取、类型转换、约束校验以及方法调用都是直接生成的代码。
+ * 功能接口中存在@JsonParam、@BeanParam、自定义约束或指定了校验组的约束等无法在编译期确定的校验时不生成绑定器，运行时使用校验处理器
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 16:30
+ */
+final class FunctionBinderGenerator {
+    // 校验模块的包名
+    private static final String VALIDATE_PACKAGE = "com.cxxwl96.hiatstudio.validate";
+
+    // 绑定器接口
+    private static final String FUNCTION_BINDER = VALIDATE_PACKAGE + ".binder.FunctionBinder";
+
+    // 绑定器类名中间部分，与FunctionBinders.BINDER_INFIX保持一致
+    private static final String BINDER_INFIX = "$$FunctionBinder$";
+
+    // 私有功能接口的桥接方法名前缀
+    private static final String BRIDGE_PREFIX = "$hi$";
+
+    private static final String PARAM_VALIDATOR = VALIDATE_PACKAGE + ".annotations.ParamValidator";
+
+    // 参数校验注解，顺序与ValidationBuilder.addDefaultValidators()中的校验处理器顺序一致
+    private static final String BASIC_PARAM = VALIDATE_PACKAGE + ".annotations.BasicParam";
+
+    private static final String JSON_PARAM = VALIDATE_PACKAGE + ".annotations.JsonParam";
+
+    private static final String BEAN_PARAM = VALIDATE_PACKAGE + ".annotations.BeanParam";
+
+    private static final String LIST_PARAM = VALIDATE_PACKAGE + ".annotations.ListParam";
+
+    private static final String RETURN_DATA = VALIDATE_PACKAGE + ".annotations.ReturnData";
+
+    private static final List<String> PARAM_ANNOTATIONS = Arrays.asList(BASIC_PARAM, JSON_PARAM, BEAN_PARAM,
+        LIST_PARAM, RETURN_DATA);
+
+    // hibernate-validator约束
+    private static final String CONSTRAINT = "javax.validation.Constraint";
+
+    private static final String VALID = "javax.validation.Valid";
+
+    private static final String CONSTRAINTS_PACKAGE = "javax.validation.constraints.";
+
+    // 快速校验器支持的约束，与ConstraintEvaluators保持一致
+    private static final Set<String> SUPPORTED_CONSTRAINTS = new HashSet<>(Arrays.asList(
+        CONSTRAINTS_PACKAGE + "NotNull", CONSTRAINTS_PACKAGE + "NotEmpty", CONSTRAINTS_PACKAGE + "NotBlank",
+        CONSTRAINTS_PACKAGE + "Size", CONSTRAINTS_PACKAGE + "Min", CONSTRAINTS_PACKAGE + "Max",
+        CONSTRAINTS_PACKAGE + "Pattern"));
+
+    private final Elements elements;
+
+    private final Types types;
+
+    FunctionBinderGenerator(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * 编译路径中是否包含校验模块，不包含则不生成绑定器
+     *
+     * @return 是否包含校验模块
+     */
+    boolean isAvailable() {
+        return elements.getTypeElement(FUNCTION_BINDER) != null;
+    }
+
+    /**
+     * 组件是否支持生成绑定器。非静态内部类中不能声明桥接方法，私有类不能被绑定器访问
+     *
+     * @param component 组件
+     * @return 是否支持
+     */
+    boolean isSupportedComponent(TypeElement component) {
+        Element element = component;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            final TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.TOP_LEVEL) {
+                return true;
+            }
+            if (typeElement.getNestingKind() != NestingKind.MEMBER
+                || !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return false;
+    }
+
+    /**
+     * 获取绑定器的全限定名，规则与FunctionBinders.getBinderClassName()一致
+     *
+     * @param component 组件
+     * @param method 功能接口
+     * @return 绑定器的全限定名
+     */
+    String getBinderClassName(TypeElement component, ExecutableElement method) {
+        return elements.getBinaryName(component) + BINDER_INFIX + method.getSimpleName() + "$"
+            + method.getParameters().size();
+    }
+
+    /**
+     * 获取私有功能接口的桥接方法名
+     *
+     * @param method 功能接口
+     * @return 桥接方法名
+     */
+    String getBridgeName(ExecutableElement method) {
+        return BRIDGE_PREFIX + method.getSimpleName() + "$" + method.getParameters().size();
+    }
+
+    /**
+     * 功能接口是否需要桥接方法，私有功能接口无法被绑定器直接调用
+     *
+     * @param method 功能接口
+     * @return 是否需要桥接方法
+     */
+    boolean needBridge(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PRIVATE);
+    }
+
+    /**
+     * 生成绑定器源码
+     *
+     * @param component 组件
+     * @param method 功能接口
+     * @return 绑定器源码，功能接口不支持生成绑定器时返回null
+     */
+    String generate(TypeElement component, ExecutableElement method) {
+        if (!method.getTypeParameters().isEmpty() || hasOverload(component, method)) {
+            return null;
+        }
+        final List<String> fields = new ArrayList<>(); // 静态字段
+        final List<String> evaluators = new ArrayList<>(); // 快速校验器字段名
+        final StringBuilder bind = new StringBuilder();
+        // 方法校验
+        final AnnotationMirror paramValidator = getAnnotation(method, PARAM_VALIDATOR);
+        if (paramValidator != null) {
+            final Map<String, Object> values = getValues(paramValidator);
+            final String handlers = ((List<?>) values.get("customValidatorHandler")).stream()
+                .map(value -> getTypeName(types.erasure((TypeMirror) ((AnnotationValue) value).getValue())) + ".class")
+                .collect(Collectors.joining(", "));
+            fields.add("private static final ParamValidatorHandler PARAM_VALIDATOR = new ParamValidatorHandler();");
+            fields.add("@SuppressWarnings(\"unchecked\")\n"
+                + "    private static final Class<? extends CustomValidatorHandler>[] CUSTOM_VALIDATOR_HANDLERS = "
+                + "new Class[] {" + handlers + "};");
+            bind.append("        BinderSupport.handleParamValidator(PARAM_VALIDATOR, ").append(values.get("size"))
+                .append(", CUSTOM_VALIDATOR_HANDLERS, paramValues);\n");
+        }
+        // 参数校验
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final List<String> parameterTypes = new ArrayList<>();
+        final List<String> arguments = new ArrayList<>();
+        final List<String> receivedNames = new ArrayList<>(); // 按名称接收的参数名
+        for (int index = 0; index < parameters.size(); index++) {
+            final VariableElement parameter = parameters.get(index);
+            final TypeMirror erasure = types.erasure(parameter.asType());
+            if (!isAccessible(erasure)) {
+                return null;
+            }
+            final String type = getTypeName(erasure);
+            parameterTypes.add(type + ".class");
+            final String name = elements.getConstantExpression(parameter.getSimpleName().toString());
+            final String annotation = PARAM_ANNOTATIONS.stream()
+                .filter(qualifiedName -> getAnnotation(parameter, qualifiedName) != null)
+                .findFirst()
+                .orElse(null);
+            final String arg = "args[" + index + "]";
+            if (annotation == null) {
+                // 未被任何校验处理器处理的参数使用默认值
+                bind.append("        ").append(arg).append(" = BinderSupport.defaultValue(").append(type)
+                    .append(".class);\n");
+            } else if (annotation.equals(BASIC_PARAM)) {
+                final Map<String, Object> values = getValues(getAnnotation(parameter, BASIC_PARAM));
+                final String receivedName = (String) values.get("name");
+                String paramIndex = String.valueOf(values.get("index"));
+                if (!receivedName.isEmpty()) {
+                    // 命名参数源按名称查找参数值的位置
+                    receivedNames.add(elements.getConstantExpression(receivedName));
+                    paramIndex = "BinderSupport.indexOf(" + name + ", paramValues, NAMES, "
+                        + elements.getConstantExpression(receivedName) + ", " + paramIndex + ")";
+                }
+                bind.append("        ").append(arg).append(" = BinderSupport.cast(").append(name)
+                    .append(", paramValues, ").append(paramIndex).append(", ").append(type)
+                    .append(".class);\n");
+                // 非必填不做校验
+                if ((Boolean) values.get("require")
+                    && !appendChecks(parameter, type, index, name, arg, fields, evaluators, bind)) {
+                    return null;
+                }
+            } else if (annotation.equals(LIST_PARAM)) {
+                // 需要按元素类型转换的列表由运行时的ListConverter转换
+                if (!types.isAssignable(types.erasure(elements.getTypeElement("java.util.List").asType()), erasure)
+                    || !isStringElements(parameter.asType())) {
+                    return null;
+                }
+                final Map<String, Object> values = getValues(getAnnotation(parameter, LIST_PARAM));
+                bind.append("        ").append(arg).append(" = BinderSupport.checkListSize(").append(values.get("size"))
+                    .append(", paramValues);\n");
+                if (!appendChecks(parameter, type, index, name, arg, fields, evaluators, bind)) {
+                    return null;
+                }
+            } else if (annotation.equals(RETURN_DATA)) {
+                bind.append("        ").append(arg).append(" = returnData;\n");
+            } else {
+                // @JsonParam、@BeanParam需要运行时解析json及校验Bean
+                return null;
+            }
+            arguments.add("(" + type + ") " + arg);
+        }
+        if (!parameters.isEmpty()) {
+            fields.add("private static final ValidationPlan PLAN = ValidationPlan.of("
+                + component.getQualifiedName() + ".class, "
+                + elements.getConstantExpression(method.getSimpleName().toString()) + ", "
+                + String.join(", ", parameterTypes) + ");");
+            // 入参的结构检查在自定义校验处理器及转换任何参数之前执行
+            bind.insert(0, "        PLAN.checkArguments(paramValues);\n");
+        }
+        if (!receivedNames.isEmpty()) {
+            fields.add("private static final ParamNameTable NAMES = ParamNameTable.of(" + String.join(", ",
+                receivedNames) + ");");
+        }
+        return write(component, method, fields, evaluators, bind, arguments);
+    }
+
+    private String write(TypeElement component, ExecutableElement method, List<String> fields,
+        List<String> evaluators, StringBuilder bind, List<String> arguments) {
+        final String binderClassName = getBinderClassName(component, method);
+        final String packageName = elements.getPackageOf(component).getQualifiedName().toString();
+        final String simpleName = packageName.isEmpty() ? binderClassName
+            : binderClassName.substring(packageName.length() + 1);
+        final String componentType = component.getQualifiedName().toString();
+        final String argumentList = String.join(", ", arguments);
+        final String invocation;
+        if (needBridge(method)) {
+            invocation = componentType + "." + getBridgeName(method) + "((" + componentType + ") component, args)";
+        } else if (method.getModifiers().contains(Modifier.STATIC)) {
+            invocation = componentType + "." + method.getSimpleName() + "(" + argumentList + ")";
+        } else {
+            invocation = "((" + componentType + ") component)." + method.getSimpleName() + "(" + argumentList + ")";
+        }
+        final boolean isVoid = !needBridge(method) && method.getReturnType().getKind() == TypeKind.VOID;
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import ").append(VALIDATE_PACKAGE).append(".CustomValidatorHandler;\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".ValidationPlan;\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".binder.BinderSupport;\n")
+            .append("import ").append(FUNCTION_BINDER).append(";\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".constraint.ConstraintEvaluator;\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".constraint.ConstraintEvaluators;\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".handler.ParamValidatorHandler;\n")
+            .append("import ").append(VALIDATE_PACKAGE).append(".source.ParamNameTable;\n\n")
+            .append("import java.util.List;\n\n")
+            .append("/**\n")
+            .append(" * ").append(componentType).append("#").append(method.getSimpleName())
+            .append("的绑定器，由EnableScanDocumentProcessor生成\n")
+            .append(" */\n")
+            .append("@SuppressWarnings(\"all\")\n")
+            .append("public final class ").append(simpleName).append(" implements FunctionBinder {\n");
+        for (String field : fields) {
+            source.append("    ").append(field).append("\n\n");
+        }
+        source.append("    @Override\n")
+            .append("    public boolean isEnabled() {\n")
+            .append("        return ").append(evaluators.isEmpty() ? "true" : evaluators.stream()
+                .map(evaluator -> evaluator + " != null")
+                .collect(Collectors.joining(" && "))).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Object[] bind(List<String> paramValues, List<String> returnData) throws Exception {\n")
+            .append("        final Object[] args = new Object[").append(arguments.size()).append("];\n")
+            .append(bind)
+            .append("        return args;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public Object invoke(Object component, Object[] args) throws Throwable {\n");
+        if (isVoid) {
+            source.append("        ").append(invocation).append(";\n").append("        return null;\n");
+        } else {
+            source.append("        return ").append(invocation).append(";\n");
+        }
+        source.append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    /*
+     * 列表元素是否按字符串接收，元素上不能有约束
+     */
+    private boolean isStringElements(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+            if (!argument.getAnnotationMirrors().isEmpty()) {
+                return false;
+            }
+            if (argument.getKind() == TypeKind.WILDCARD) {
+                continue;
+            }
+            final String typeName = getTypeName(types.erasure(argument));
+            if (!typeName.equals("java.lang.String") && !typeName.equals("java.lang.Object")
+                && !typeName.equals("java.lang.CharSequence")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 生成参数上约束的快速校验代码，存在快速校验器不支持的约束时返回false
+     */
+    private boolean appendChecks(VariableElement parameter, String type, int index, String name, String arg,
+        List<String> fields, List<String> evaluators, StringBuilder bind) {
+        final String typeClass = type + ".class";
+        for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            final String qualifiedName = annotationType.getQualifiedName().toString();
+            if (!SUPPORTED_CONSTRAINTS.contains(qualifiedName)) {
+                if (isConstraint(annotationType)) {
+                    return false;
+                }
+                continue;
+            }
+            final Map<String, Object> values = getValues(mirror);
+            // 指定了校验组的约束不在默认组中校验
+            if (!((List<?>) values.get("groups")).isEmpty()) {
+                return false;
+            }
+            final String message = elements.getConstantExpression(values.get("message"));
+            final String expression;
+            switch (annotationType.getSimpleName().toString()) {
+                case "NotNull":
+                    expression = "ConstraintEvaluators.notNull(" + message + ")";
+                    break;
+                case "NotEmpty":
+                    expression = "ConstraintEvaluators.notEmpty(" + typeClass + ", " + message + ")";
+                    break;
+                case "NotBlank":
+                    expression = "ConstraintEvaluators.notBlank(" + typeClass + ", " + message + ")";
+                    break;
+                case "Size":
+                    expression = "ConstraintEvaluators.size(" + typeClass + ", " + values.get("min") + ", "
+                        + values.get("max") + ", " + message + ")";
+                    break;
+                case "Min":
+                case "Max":
+                    expression = "ConstraintEvaluators." + annotationType.getSimpleName().toString().toLowerCase()
+                        + "(" + typeClass + ", " + values.get("value") + "L, " + message + ")";
+                    break;
+                default:
+                    final String flags = ((List<?>) values.get("flags")).stream()
+                        .map(value -> CONSTRAINTS_PACKAGE + "Pattern.Flag." + ((AnnotationValue) value).getValue())
+                        .collect(Collectors.joining(", "));
+                    expression = "ConstraintEvaluators.pattern(" + typeClass + ", "
+                        + elements.getConstantExpression(values.get("regexp")) + ", new " + CONSTRAINTS_PACKAGE
+                        + "Pattern.Flag[] {" + flags + "}, " + message + ")";
+                    break;
+            }
+            final String evaluator = "EVALUATOR_" + index + "_" + evaluators.size();
+            evaluators.add(evaluator);
+            fields.add("private static final ConstraintEvaluator " + evaluator + " = " + expression + ";");
+            bind.append("        BinderSupport.check(").append(evaluator).append(", ").append(name).append(", ")
+                .append(arg).append(");\n");
+        }
+        return true;
+    }
+
+    /*
+     * 是否为hibernate-validator的约束、级联校验或约束容器注解
+     */
+    private boolean isConstraint(TypeElement annotationType) {
+        if (annotationType.getQualifiedName().contentEquals(VALID)
+            || getAnnotation(annotationType, CONSTRAINT) != null) {
+            return true;
+        }
+        for (ExecutableElement element : methodsOf(annotationType)) {
+            final TypeMirror returnType = element.getReturnType();
+            if (element.getSimpleName().contentEquals("value") && returnType.getKind() == TypeKind.ARRAY) {
+                final TypeMirror componentType = ((ArrayType) returnType).getComponentType();
+                if (componentType.getKind() == TypeKind.DECLARED && getAnnotation(
+                    ((DeclaredType) componentType).asElement(), CONSTRAINT) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /*
+     * 组件中是否存在同名且参数个数相同的方法，存在则绑定器类名冲突
+     */
+    private boolean hasOverload(TypeElement component, ExecutableElement method) {
+        return methodsOf(component).stream()
+            .anyMatch(other -> other != method && other.getSimpleName().equals(method.getSimpleName())
+                && other.getParameters().size() == method.getParameters().size());
+    }
+
+    /**
+     * 获取擦除后的类型在源码中的名称，不包含类型上的注解
+     *
+     * @param erasure 擦除后的类型
+     * @return 类型名称。如int、java.lang.String[]
+     */
+    static String getTypeName(TypeMirror erasure) {
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return getTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName().toString();
+        }
+        return erasure.getKind().name().toLowerCase();
+    }
+
+    /*
+     * 参数类型是否可以被同包的绑定器访问
+     */
+    private boolean isAccessible(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+        Element element = ((DeclaredType) type).asElement();
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private List<ExecutableElement> methodsOf(TypeElement typeElement) {
+        return typeElement.getEnclosedElements().stream()
+            .filter(element -> element.getKind() == ElementKind.METHOD)
+            .map(ExecutableElement.class::cast)
+            .collect(Collectors.toList());
+    }
+
+    /*
+     * 获取注解的属性值，包含默认值
+     */
+    private Map<String, Object> getValues(AnnotationMirror mirror) {
+        return elements.getElementValuesWithDefaults(mirror).entrySet().stream()
+            .collect(Collectors.toMap(entry -> entry.getKey().getSimpleName().toString(),
+                entry -> entry.getValue().getValue()));
+    }
+
+    /**
+     * 获取元素上的注解
+     *
+     * @param element 元素
+     * @param qualifiedName 注解的全限定名
+     * @return 注解，不存在时返回null
+     */
+    static AnnotationMirror getAnnotation(Element element, String qualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                .contentEquals(qualifiedName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+}
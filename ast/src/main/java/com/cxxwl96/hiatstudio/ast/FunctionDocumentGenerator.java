@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.ast;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * 功能接口文档资源生成器
+ * 在编译期读取功能接口JavaDoc中的@hi-*标签，写入与组件class文件同目录的"组件类名.hi-doc.properties"资源文件，
+ * 运行时按需读取一次即可得到组件中所有功能接口的文档，无需扫描源码。
+ * 资源文件中的键为：方法名(参数类型,...).标签名，如myFunction(int,java.lang.String).hi-description。
+ * 资源文件按键排序输出，不写入时间戳注释，保证每次编译生成的内容一致
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:10
+ */
+final class FunctionDocumentGenerator {
+    // 资源文件后缀，与FunctionDocuments.RESOURCE_SUFFIX保持一致
+    private static final String RESOURCE_SUFFIX = ".hi-doc.properties";
+
+    // 文档标签前缀
+    private static final String TAG_PREFIX = "@hi-";
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    FunctionDocumentGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * 生成组件的功能接口文档资源文件，组件中没有任何文档标签时不生成
+     *
+     * @param component 组件
+     * @param documentAnnoType 需要被文档注入的注解
+     * @throws IOException 写入资源文件失败
+     */
+    void generate(TypeElement component, String documentAnnoType) throws IOException {
+        final Map<String, String> documents = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(component.getEnclosedElements())) {
+            if (FunctionBinderGenerator.getAnnotation(method, documentAnnoType) == null) {
+                continue;
+            }
+            final String docComment = elements.getDocComment(method);
+            if (docComment != null) {
+                parseTags(getSignature(method), docComment, documents);
+            }
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+        final PackageElement packageElement = elements.getPackageOf(component);
+        final String packageName = packageElement.getQualifiedName().toString();
+        final String binaryName = elements.getBinaryName(component).toString();
+        final String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        final FileObject resource = processingEnv.getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, packageName, simpleName + RESOURCE_SUFFIX, component);
+        try (OutputStream outputStream = resource.openOutputStream()) {
+            store(documents, outputStream);
+        }
+    }
+
+    /*
+     * 按Properties.load()可以读取的格式写入，与Properties.store()不同的是不写入时间戳注释，换行符固定为\n
+     */
+    private static void store(Map<String, String> documents, OutputStream outputStream) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> entry : documents.entrySet()) {
+            escape(entry.getKey(), true, builder);
+            builder.append('=');
+            escape(entry.getValue(), false, builder);
+            builder.append('\n');
+        }
+        outputStream.write(builder.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /*
+     * 与Properties.store()一致的转义：键中的空格及值开头的空格、\、控制字符以及=、:、#、!，非ASCII字符转义为\\uXXXX
+     */
+    private static void escape(String text, boolean key, StringBuilder builder) {
+        for (int index = 0; index < text.length(); index++) {
+            final char c = text.charAt(index);
+            switch (c) {
+                case ' ':
+                    if (key || index == 0) {
+                        builder.append('\\');
+                    }
+                    builder.append(' ');
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\\':
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    builder.append('\\').append(c);
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format(Locale.ROOT, "\\u%04X", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+
+    /*
+     * 解析JavaDoc中的@hi-*标签，标签内容可以换行，同一个标签出现多次时使用换行符拼接
+     */
+    private void parseTags(String signature, String docComment, Map<String, String> documents) {
+        String key = null;
+        for (String line : docComment.split("\\r?\\n")) {
+            final String text = line.trim();
+            if (text.startsWith("@")) {
+                key = null;
+                if (!text.startsWith(TAG_PREFIX)) {
+                    continue;
+                }
+                final int end = indexOfWhitespace(text);
+                key = signature + "." + text.substring(1, end);
+                final String value = text.substring(end).trim();
+                final String previous = documents.get(key);
+                documents.put(key, previous == null ? value : previous + "\n" + value);
+            } else if (key != null && !text.isEmpty()) {
+                final String previous = documents.get(key);
+                documents.put(key, previous.isEmpty() ? text : previous + " " + text);
+            }
+        }
+    }
+
+    private int indexOfWhitespace(String text) {
+        for (int index = 0; index < text.length(); index++) {
+            if (Character.isWhitespace(text.charAt(index))) {
+                return index;
+            }
+        }
+        return text.length();
+    }
+
+    /*
+     * 获取方法签名，参数类型名称与运行时Class.getTypeName()一致
+     */
+    private String getSignature(ExecutableElement method) {
+        return method.getSimpleName() + method.getParameters().stream()
+            .map(parameter -> getTypeName(types.erasure(parameter.asType())))
+            .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private String getTypeName(TypeMirror erasure) {
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return getTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return elements.getBinaryName((TypeElement) ((DeclaredType) erasure).asElement()).toString();
+        }
+        return erasure.getKind().name().toLowerCase();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.ast;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * 功能接口签名的结构检查
+ * 在编译期检查只与方法签名有关的错误，与运行时ValidationPlan中的检查一致，结构错误的功能接口直接编译失败
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:40
+ */
+final class FunctionSignatureChecker {
+    private static final String BASIC_PARAM = "com.cxxwl96.hiatstudio.validate.annotations.BasicParam";
+
+    private static final String JSON_PARAM = "com.cxxwl96.hiatstudio.validate.annotations.JsonParam";
+
+    private static final String BEAN_PARAM = "com.cxxwl96.hiatstudio.validate.annotations.BeanParam";
+
+    private static final String LIST_PARAM = "com.cxxwl96.hiatstudio.validate.annotations.ListParam";
+
+    private static final String LAZY = "com.cxxwl96.hiatstudio.validate.Lazy";
+
+    private final Messager messager;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    FunctionSignatureChecker(ProcessingEnvironment processingEnv) {
+        this.messager = processingEnv.getMessager();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * 检查组件中被文档注入注解标注的方法签名，结构错误输出编译错误
+     *
+     * @param component 组件
+     * @param documentAnnoType 需要被文档注入的注解
+     * @return 是否所有方法签名都正确
+     */
+    boolean check(TypeElement component, String documentAnnoType) {
+        boolean valid = true;
+        for (ExecutableElement method : ElementFilter.methodsIn(component.getEnclosedElements())) {
+            if (FunctionBinderGenerator.getAnnotation(method, documentAnnoType) != null) {
+                valid &= check(method);
+            }
+        }
+        return valid;
+    }
+
+    private boolean check(ExecutableElement method) {
+        boolean valid = true;
+        final Map<Integer, String> basicParamIndexes = new HashMap<>();
+        final Map<String, String> basicParamNames = new HashMap<>();
+        for (VariableElement parameter : method.getParameters()) {
+            final String paramName = parameter.getSimpleName().toString();
+            final AnnotationMirror basicParam = FunctionBinderGenerator.getAnnotation(parameter, BASIC_PARAM);
+            if (basicParam != null) {
+                final int index = (Integer) getValue(basicParam, "index");
+                final String name = (String) getValue(basicParam, "name");
+                final String existing = index < 0 ? null : basicParamIndexes.putIfAbsent(index, paramName);
+                if (existing != null) {
+                    valid = error(parameter, "Parameters \"" + existing + "\" and \"" + paramName
+                        + "\" have the same index " + index + ".");
+                }
+                final String existingName = name.isEmpty() ? null : basicParamNames.putIfAbsent(name, paramName);
+                if (existingName != null) {
+                    valid = error(parameter, "Parameters \"" + existingName + "\" and \"" + paramName
+                        + "\" have the same name \"" + name + "\".");
+                }
+                // 配置了name时可以不配置位置
+                if (index < 0 && name.isEmpty()) {
+                    valid = error(parameter, "The index of parameter \"" + paramName + "\" must not be negative.");
+                }
+            }
+            final AnnotationMirror jsonParam = FunctionBinderGenerator.getAnnotation(parameter, JSON_PARAM);
+            if (jsonParam != null && (Integer) getValue(jsonParam, "index") < 0 && ((String) getValue(jsonParam,
+                "name")).isEmpty()) {
+                valid = error(parameter, "The index of parameter \"" + paramName + "\" must not be negative.");
+            }
+            if (FunctionBinderGenerator.getAnnotation(parameter, LIST_PARAM) != null && !isListType(parameter.asType())) {
+                valid = error(parameter, "The type of parameter \"" + paramName + "\" is not supported by @ListParam.");
+            }
+            // 只有@JsonParam、@BeanParam可以延迟转换，@BasicParam优先于它们处理参数
+            final boolean lazy = isLazy(parameter.asType());
+            if (lazy && (basicParam != null || (jsonParam == null
+                && FunctionBinderGenerator.getAnnotation(parameter, BEAN_PARAM) == null))) {
+                valid = error(parameter, "Parameter \"" + paramName
+                    + "\" can only be Lazy when received by @JsonParam or @BeanParam.");
+            }
+            final TypeMirror valueType = lazy ? getLazyValueType(parameter.asType()) : parameter.asType();
+            if (FunctionBinderGenerator.getAnnotation(parameter, BEAN_PARAM) != null && !isBean(valueType)) {
+                valid = error(parameter, "The type of parameter \"" + paramName + "\" is not a standard Javabeans");
+            }
+        }
+        return valid;
+    }
+
+    private Object getValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+            .getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    /*
+     * @ListParam可以接收的类型：List可以赋值的类型、Stream、Iterator以及int[]、long[]、double[]
+     */
+    private boolean isListType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            final TypeKind componentKind = ((ArrayType) type).getComponentType().getKind();
+            return componentKind == TypeKind.INT || componentKind == TypeKind.LONG || componentKind == TypeKind.DOUBLE;
+        }
+        final TypeMirror erasure = types.erasure(type);
+        return types.isAssignable(types.erasure(elements.getTypeElement("java.util.List").asType()), erasure)
+            || types.isSameType(erasure, types.erasure(elements.getTypeElement("java.util.stream.Stream").asType()))
+            || types.isSameType(erasure, types.erasure(elements.getTypeElement("java.util.Iterator").asType()));
+    }
+
+    private boolean isLazy(TypeMirror type) {
+        final TypeElement lazy = elements.getTypeElement(LAZY);
+        return lazy != null && type.getKind() == TypeKind.DECLARED && types.isSameType(types.erasure(type),
+            types.erasure(lazy.asType()));
+    }
+
+    /*
+     * Lazy<T>的T，未指定类型参数时为Object
+     */
+    private TypeMirror getLazyValueType(TypeMirror type) {
+        final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        return arguments.isEmpty() ? elements.getTypeElement("java.lang.Object").asType() : arguments.get(0);
+    }
+
+    /*
+     * 与BeanUtil.isBean()一致：标准的类，并且有public的setter方法或public的非静态字段
+     */
+    private boolean isBean(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getKind() != ElementKind.CLASS || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (Element member : elements.getAllMembers(typeElement)) {
+            if (!member.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (member.getKind() == ElementKind.METHOD && member.getSimpleName().toString().startsWith("set")
+                && ((ExecutableElement) member).getParameters().size() == 1) {
+                return true;
+            }
+            if (member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
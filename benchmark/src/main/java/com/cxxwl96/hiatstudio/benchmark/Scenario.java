@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.benchmark.component.BasicParamComponent;
+import com.cxxwl96.hiatstudio.benchmark.component.BeanParamComponent;
+import com.cxxwl96.hiatstudio.benchmark.component.JsonParamComponent;
+import com.cxxwl96.hiatstudio.benchmark.component.ListParamComponent;
+import com.cxxwl96.hiatstudio.benchmark.component.ParamValidatorComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 基准测试场景
+ * 每种校验处理器对应一个组件中的功能接口，以及一组校验通过的入参和一组校验失败的入参
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:40
+ */
+public enum Scenario {
+    /**
+     * BasicParamHandler
+     */
+    BASIC_PARAM("basic", BasicParamComponent.class, "basic",
+        new String[] {"cyk", "18", "true"},
+        new String[] {"cyk", "30", "true"}),
+
+    /**
+     * JsonParamHandler
+     */
+    JSON_PARAM("json", JsonParamComponent.class, "json",
+        new String[] {"{\"key1\":\"value1\",\"key2\":[\"value2\"]}"},
+        new String[] {"{\"key1\":\" \",\"key2\":[\"value2\"]}"}),
+
+    /**
+     * JsonParamHandler，通过jsonPath接收
+     */
+    JSON_PATH("jsonPath", JsonParamComponent.class, "jsonPath",
+        new String[] {"{\"key1\":\"value1\",\"key2\":[\"value2\"]}"},
+        new String[] {"{\"key1\":\"value1\",\"key2\":[\"a\",\"b\",\"c\"]}"}),
+
+    /**
+     * BeanParamHandler
+     */
+    BEAN_PARAM("bean", BeanParamComponent.class, "bean",
+        new String[] {"cyk", "18", "true", "39793666111", "[\"贵州\"]"},
+        new String[] {"cyk", "18", "true", "0123", "[\"贵州\"]"}),
+
+    /**
+     * ListParamHandler
+     */
+    LIST_PARAM("list", ListParamComponent.class, "list",
+        new String[] {"1", "2", "3", "4"},
+        new String[] {"1", "2", "-3", "4"}),
+
+    /**
+     * ParamValidatorHandler，配置了自定义校验处理器
+     */
+    PARAM_VALIDATOR("validator", ParamValidatorComponent.class, "validator",
+        new String[] {"1", "2"},
+        new String[] {"2", "1"});
+
+    // 场景标识
+    @Getter
+    private final String id;
+
+    // 功能接口所在的组件
+    @Getter
+    private final Class<? extends AbstractComponent> componentClass;
+
+    // 功能接口名
+    @Getter
+    private final String functionName;
+
+    // 校验通过的入参
+    private final String[] validParams;
+
+    // 校验失败的入参
+    private final String[] invalidParams;
+
+    Scenario(String id, Class<? extends AbstractComponent> componentClass, String functionName,
+        String[] validParams, String[] invalidParams) {
+        this.id = id;
+        this.componentClass = componentClass;
+        this.functionName = functionName;
+        this.validParams = validParams;
+        this.invalidParams = invalidParams;
+    }
+
+    /**
+     * 校验通过的入参，每次返回新的列表
+     *
+     * @return 入参
+     */
+    public List<String> validParams() {
+        return new ArrayList<>(Arrays.asList(validParams));
+    }
+
+    /**
+     * 校验失败的入参，每次返回新的列表
+     *
+     * @return 入参
+     */
+    public List<String> invalidParams() {
+        return new ArrayList<>(Arrays.asList(invalidParams));
+    }
+
+    /**
+     * 根据场景标识获取场景
+     *
+     * @param id 场景标识
+     * @return 场景
+     * @throws IllegalArgumentException 场景不存在
+     */
+    public static Scenario of(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario \"" + id + "\".");
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.coldstart;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.cxxwl96.hiatstudio.benchmark.Scenario;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 冷启动基准测试
+ * 稳态的基准测试无法体现发布后首个请求的延迟，这里每次测量都启动新的JVM运行{@link ColdStartProbe}，
+ * 分别测量每种校验处理器在不预热和预热时的就绪耗时、首次校验耗时以及类加载个数，
+ * 多次测量的结果汇总为最小值、中位数、平均值、最大值，以json输出，便于与基线对比发现启动开销的退化
+ *
+ * 参数：
+ * --forks=5 每个场景启动JVM的次数，至少为1
+ * --warmup=10 预热次数，为0时只测量不预热的情况
+ * --scenarios=all 场景标识，多个场景以逗号分隔，见{@link Scenario}
+ * --output=coldstart.json 结果输出文件，为-时输出到控制台
+ * --jvmArgs= 启动JVM的参数，多个参数以空格分隔
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:50
+ */
+public final class ColdStartBenchmark {
+    // 汇总的指标
+    private static final List<String> METRICS = Collections.unmodifiableList(
+        Arrays.asList("jvmStartToMainMs", "readyMs", "firstValidateMs", "timeToReadyMs", "timeToFirstSuccessMs",
+            "readyLoadedClasses", "firstValidateLoadedClasses"));
+
+    // 每个JVM的超时时间
+    private static final long FORK_TIMEOUT_SECONDS = 120;
+
+    private ColdStartBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final Map<String, String> options = parseOptions(args);
+        final int forks = parseCount(options, "forks", "5", 1);
+        final int warmup = parseCount(options, "warmup", "10", 0);
+        final List<Scenario> scenarios = parseScenarios(options.getOrDefault("scenarios", "all"));
+        final List<String> jvmArgs = StrUtil.splitTrim(options.getOrDefault("jvmArgs", StrUtil.EMPTY), ' ');
+
+        final List<Object> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            results.add(measure(scenario, 0, forks, jvmArgs));
+            if (warmup > 0) {
+                results.add(measure(scenario, warmup, forks, jvmArgs));
+            }
+        }
+        final JSONObject report = new JSONObject(true);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("vmName", System.getProperty("java.vm.name"));
+        report.put("jvmArgs", jvmArgs);
+        report.put("forks", forks);
+        report.put("results", results);
+        final String json = JSON.toJSONString(report, SerializerFeature.PrettyFormat);
+
+        final String output = options.getOrDefault("output", "coldstart.json");
+        if ("-".equals(output)) {
+            System.out.println(json);
+        } else {
+            FileUtil.writeUtf8String(json, new File(output));
+            System.err.println("Cold start results are written to " + new File(output).getAbsolutePath());
+        }
+    }
+
+    /**
+     * 测量场景，启动forks次JVM并汇总结果
+     *
+     * @param scenario 场景
+     * @param warmup 预热次数
+     * @param forks 启动JVM的次数
+     * @param jvmArgs 启动JVM的参数
+     * @return 汇总结果
+     */
+    private static JSONObject measure(Scenario scenario, int warmup, int forks, List<String> jvmArgs)
+        throws IOException, InterruptedException {
+        final List<JSONObject> samples = new ArrayList<>(forks);
+        for (int fork = 0; fork < forks; fork++) {
+            final JSONObject sample = fork(scenario, warmup, jvmArgs);
+            if (!sample.getBooleanValue("success")) {
+                throw new IllegalStateException(String.format(Locale.ROOT, "Scenario \"%s\" failed to validate: %s",
+                    scenario.getId(), sample.getString("errorMessage")));
+            }
+            samples.add(sample);
+        }
+        final JSONObject result = new JSONObject(true);
+        result.put("scenario", scenario.getId());
+        result.put("warmup", warmup);
+        for (String metric : METRICS) {
+            result.put(metric, summarize(samples, metric));
+        }
+        // 进度输出到标准错误，标准输出只输出json结果
+        System.err.println(String.format(Locale.ROOT,
+            "%-10s warmup=%-4d timeToReady=%8.2fms firstValidate=%8.2fms timeToFirstSuccess=%8.2fms classes=%d",
+            scenario.getId(), warmup, result.getJSONObject("timeToReadyMs").getDoubleValue("median"),
+            result.getJSONObject("firstValidateMs").getDoubleValue("median"),
+            result.getJSONObject("timeToFirstSuccessMs").getDoubleValue("median"),
+            result.getJSONObject("firstValidateLoadedClasses").getLongValue("median")));
+        return result;
+    }
+
+    /**
+     * 启动新的JVM运行探针，读取探针输出的json
+     *
+     * @param scenario 场景
+     * @param warmup 预热次数
+     * @param jvmArgs 启动JVM的参数
+     * @return 测量结果
+     */
+    private static JSONObject fork(Scenario scenario, int warmup, List<String> jvmArgs)
+        throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmArgs);
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ColdStartProbe.class.getName());
+        command.add(scenario.getId());
+        command.add(String.valueOf(warmup));
+        final Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        String line;
+        String lastLine = null;
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            while ((line = reader.readLine()) != null) {
+                if (StrUtil.isNotBlank(line)) {
+                    lastLine = line;
+                }
+            }
+        }
+        if (!process.waitFor(FORK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Cold start probe timed out: " + scenario.getId());
+        }
+        if (process.exitValue() != 0 || lastLine == null) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "Cold start probe exited with %d: %s",
+                process.exitValue(), scenario.getId()));
+        }
+        return JSON.parseObject(lastLine);
+    }
+
+    private static JSONObject summarize(List<JSONObject> samples, String metric) {
+        final double[] values = new double[samples.size()];
+        double sum = 0;
+        for (int index = 0; index < values.length; index++) {
+            values[index] = samples.get(index).getDoubleValue(metric);
+            sum += values[index];
+        }
+        Arrays.sort(values);
+        final int middle = values.length / 2;
+        final double median = values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+        final JSONObject summary = new JSONObject(true);
+        summary.put("min", round(values[0]));
+        summary.put("median", round(median));
+        summary.put("mean", round(sum / values.length));
+        summary.put("max", round(values[values.length - 1]));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unknown option \"" + arg + "\", options are like --forks=5.");
+            }
+            options.put(StrUtil.subBetween(arg, "--", "="), StrUtil.subAfter(arg, "=", false));
+        }
+        return options;
+    }
+
+    private static int parseCount(Map<String, String> options, String name, String defaultValue, int min) {
+        final String value = options.getOrDefault(name, defaultValue);
+        final int count;
+        try {
+            count = Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Option --" + name + " must be an integer, but got \"" + value + "\".",
+                exception);
+        }
+        if (count < min) {
+            throw new IllegalArgumentException("Option --" + name + " must be at least " + min + ", but got " + count
+                + ".");
+        }
+        return count;
+    }
+
+    private static List<Scenario> parseScenarios(String ids) {
+        if ("all".equals(ids)) {
+            return Arrays.asList(Scenario.values());
+        }
+        final List<Scenario> scenarios = new ArrayList<>();
+        for (String id : StrUtil.splitTrim(ids, ',')) {
+            scenarios.add(Scenario.of(id));
+        }
+        return scenarios;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.coldstart;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.benchmark.Scenario;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 冷启动探针，由{@link ColdStartBenchmark}在新的JVM中启动，每个JVM只测量一次
+ * 测量注册组件（及预热）到就绪的耗时、就绪后首次校验的耗时、从JVM启动到首次校验通过的耗时以及各阶段已加载的类的个数，
+ * 所有指标采集完成后才输出一行json，输出结果本身不会计入指标
+ *
+ * 参数：场景标识 预热次数
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:50
+ */
+public final class ColdStartProbe {
+    private ColdStartProbe() {
+    }
+
+    public static void main(String[] args) {
+        final long mainNanos = System.nanoTime();
+        final long jvmStartMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        final Scenario scenario = Scenario.of(args[0]);
+        final int warmup = Integer.parseInt(args[1]);
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final long mainClasses = classLoading.getTotalLoadedClassCount();
+
+        // 注册组件，配置了预热次数时预热后才算就绪
+        final long registerNanos = System.nanoTime();
+        final FunctionRegistry registry = new FunctionRegistry().register(scenario.getComponentClass());
+        if (warmup > 0) {
+            registry.warmup(warmup);
+        }
+        final long readyNanos = System.nanoTime();
+        final long readyClasses = classLoading.getTotalLoadedClassCount();
+
+        // 就绪后的首次校验
+        final ComponentFunction function = registry.getFunction(scenario.getFunctionName());
+        final ValidationResult result = function.validate(scenario.validParams(), new ArrayList<>());
+        final long firstValidateNanos = System.nanoTime();
+        final long firstValidateClasses = classLoading.getTotalLoadedClassCount();
+
+        final Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("scenario", scenario.getId());
+        sample.put("warmup", warmup);
+        sample.put("success", result.isSuccess());
+        sample.put("errorMessage", result.getErrorMessage());
+        sample.put("jvmStartToMainMs", jvmStartMs);
+        sample.put("readyMs", millis(readyNanos - registerNanos));
+        sample.put("firstValidateMs", millis(firstValidateNanos - readyNanos));
+        sample.put("timeToReadyMs", jvmStartMs + millis(readyNanos - mainNanos));
+        sample.put("timeToFirstSuccessMs", jvmStartMs + millis(firstValidateNanos - mainNanos));
+        sample.put("mainLoadedClasses", mainClasses);
+        sample.put("readyLoadedClasses", readyClasses);
+        sample.put("firstValidateLoadedClasses", firstValidateClasses);
+        System.out.println(JSON.toJSONString(sample));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
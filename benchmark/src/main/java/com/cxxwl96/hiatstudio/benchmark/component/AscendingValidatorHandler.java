@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.component;
+
+import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.annotations.DeterministicValidator;
+
+import java.util.List;
+
+/**
+ * 基准测试的自定义校验处理器，入参需要按升序排列
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:40
+ */
+@DeterministicValidator
+public class AscendingValidatorHandler implements CustomValidatorHandler {
+    /**
+     * 自定义校验处理
+     *
+     * @param paramValues 入参参数
+     * @param chain 校验链
+     * @throws IllegalArgumentException 参数校验异常
+     */
+    @Override
+    public void handle(List<String> paramValues, ValidationChain chain) throws IllegalArgumentException {
+        for (int index = 1; index < paramValues.size(); index++) {
+            if (paramValues.get(index - 1).compareTo(paramValues.get(index)) > 0) {
+                throw new IllegalArgumentException("The parameters are not in ascending order.");
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.component;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.ast.EnableInjectDocument;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+
+import java.util.List;
+
+import javax.validation.constraints.Size;
+
+/**
+ * 基准测试组件，@JsonParam接收参数
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:40
+ */
+@EnableInjectDocument(FunctionInterface.class)
+public class JsonParamComponent extends AbstractComponent {
+    @FunctionInterface(name = "json", paramExample = "[\"{\\\"key1\\\":\\\"value1\\\",\\\"key2\\\":[\\\"value2\\\"]}\"]")
+    private String json(@JsonParam(index = 0) BenchmarkJson json) {
+        return json.getKey1();
+    }
+
+    @FunctionInterface(name = "jsonPath", paramExample = "[\"{\\\"key1\\\":\\\"value1\\\",\\\"key2\\\":[\\\"value2\\\"]}\"]")
+    private int jsonPath(@JsonParam(index = 0, jsonPath = "$.key2") @Size(max = 2) List<String> key2) {
+        return key2.size();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.component;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.ast.EnableInjectDocument;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+
+import java.util.List;
+
+import javax.validation.constraints.Min;
+
+/**
+ * 基准测试组件，@ListParam接收参数
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:40
+ */
+@EnableInjectDocument(FunctionInterface.class)
+public class ListParamComponent extends AbstractComponent {
+    @FunctionInterface(name = "list", paramExample = "[\"1\",\"2\",\"3\",\"4\"]")
+    private int list(@ListParam List<@Min(0) Integer> ids) {
+        return ids.size();
+    }
+}
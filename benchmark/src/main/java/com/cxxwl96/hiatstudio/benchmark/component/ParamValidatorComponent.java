@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.component;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.ast.EnableInjectDocument;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+
+/**
+ * 基准测试组件，@ParamValidator配置自定义校验处理器
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:40
+ */
+@EnableInjectDocument(FunctionInterface.class)
+public class ParamValidatorComponent extends AbstractComponent {
+    @ParamValidator(size = 2, customValidatorHandler = AscendingValidatorHandler.class)
+    @FunctionInterface(name = "validator", paramExample = "[\"1\",\"2\"]")
+    private int validator(@BasicParam(index = 0) int min, @BasicParam(index = 1) int max) {
+        return max - min;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.benchmark.jmh;
+
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.benchmark.Scenario;
+import com.cxxwl96.hiatstudio.validate.Validation;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 校验引擎基准测试
+ * 每种校验处理器（见{@link Scenario}）分别使用校验通过和校验失败的入参，测量功能接口的校验（参数绑定器）
+ * 与解释执行的校验（{@link Validation#validateDefaults(ValidationMetadata)}及每次构造校验处理器的
+ * {@link Validation#validate()}），以及多线程并发校验。
+ * 校验失败时会打印错误日志，基准测试的JVM将slf4j-simple的日志输出到/dev/null，测量结果不包含日志输出的开销。
+ * 基准测试的JVM开启了运行时编译绑定器，没有编译期绑定器的功能接口在预热时编译绑定器
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 22:20
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dorg.slf4j.simpleLogger.logFile=/dev/null",
+    "-Dhiatstudio.binder.compileThreshold=1000"})
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+    // 场景标识
+    @Param({"basic", "json", "jsonPath", "bean", "list", "validator"})
+    private String scenario;
+
+    // 入参：valid校验通过，invalid校验失败
+    @Param({"valid", "invalid"})
+    private String input;
+
+    // 功能接口
+    private ComponentFunction function;
+
+    // 功能接口方法
+    private Method method;
+
+    // 入参
+    private List<String> paramValues;
+
+    @Setup
+    public void setup() {
+        final Scenario current = Scenario.of(scenario);
+        // 预热时编译参数绑定器，测量的是功能接口最终使用的参数绑定器
+        function = new FunctionRegistry().register(current.getComponentClass()).warmup(1).getFunction(
+            current.getFunctionName());
+        method = function.getMethod();
+        paramValues = "valid".equals(input) ? current.validParams() : current.invalidParams();
+        // 入参与期望的校验结果不一致时场景配置有误，测量结果没有意义
+        final ValidationResult result = function.validate(paramValues, new ArrayList<>());
+        if (result.isSuccess() != "valid".equals(input)) {
+            throw new IllegalStateException(
+                "Unexpected validation result of " + scenario + "/" + input + ": " + result.getErrorMessage());
+        }
+    }
+
+    /**
+     * 功能接口的校验，由参数绑定器绑定参数
+     *
+     * @return 校验结果
+     */
+    @Benchmark
+    public ValidationResult function() {
+        return function.validate(paramValues, new ArrayList<>());
+    }
+
+    /**
+     * 解释执行的校验，使用校验计划中已初始化的默认的校验处理器
+     *
+     * @return 校验结果
+     */
+    @Benchmark
+    public ValidationResult interpreted() {
+        return Validation.validateDefaults(new ValidationMetadata(method, paramValues, new ArrayList<>()));
+    }
+
+    /**
+     * 解释执行的校验，每次通过ValidationBuilder构造默认的校验处理器
+     *
+     * @return 校验结果
+     */
+    @Benchmark
+    public ValidationResult interpretedBuilder() {
+        return ValidationBuilder.builder(new ValidationMetadata(method, paramValues, new ArrayList<>()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+    }
+
+    /**
+     * 多线程并发的功能接口的校验
+     *
+     * @return 校验结果
+     */
+    @Benchmark
+    @Threads(4)
+    public ValidationResult functionConcurrent() {
+        return function.validate(paramValues, new ArrayList<>());
+    }
+
+    /**
+     * 多线程并发的解释执行的校验
+     *
+     * @return 校验结果
+     */
+    @Benchmark
+    @Threads(4)
+    public ValidationResult interpretedConcurrent() {
+        return Validation.validateDefaults(new ValidationMetadata(method, paramValues, new ArrayList<>()));
+    }
+}
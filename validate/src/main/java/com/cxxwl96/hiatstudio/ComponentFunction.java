@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.validate.Validation;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinder;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinderCompiler;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinders;
+import com.cxxwl96.hiatstudio.validate.cache.ValidationCache;
+import com.cxxwl96.hiatstudio.validate.cache.ValidationCoalescer;
+import com.cxxwl96.hiatstudio.validate.metadata.ConstraintIndex;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.proxy.MethodInvoker;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cn.hutool.core.util.StrUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 组件中被@FunctionInterface标注的功能接口
+ * 注册时绑定组件实例、校验计划以及方法调用器，调用时无需再查找方法。存在编译期生成的绑定器时优先使用绑定器。
+ * 开启校验结果缓存或并发相同校验的合并时，校验结果只由入参决定的功能接口复用相同入参的校验结果
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 15:40
+ */
+@Slf4j
+@Getter
+public class ComponentFunction {
+    // 功能接口名
+    private final String name;
+
+    // 功能接口描述
+    private final String desc;
+
+    // 功能接口参数示例
+    private final String paramExample;
+
+    // 功能接口所在的组件
+    private final AbstractComponent component;
+
+    // 功能接口方法
+    private final Method method;
+
+    // 校验计划
+    private final ValidationPlan plan;
+
+    // 方法调用器
+    private final MethodInvoker invoker;
+
+    // 绑定器，优先使用编译期生成的绑定器，不存在时调用次数达到编译阈值后在运行时编译，编译完成前为null
+    private volatile FunctionBinder binder;
+
+    // 使用校验处理器解释执行的调用次数
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger interpretedCount = new AtomicInteger();
+
+    public ComponentFunction(AbstractComponent component, Method method) {
+        final FunctionInterface functionInterface = method.getAnnotation(FunctionInterface.class);
+        this.name = functionInterface.name();
+        this.desc = functionInterface.desc();
+        this.paramExample = functionInterface.paramExample();
+        this.component = component;
+        this.method = method;
+        this.plan = ValidationPlan.of(method);
+        // 注册时拒绝结构错误的方法签名
+        plan.verify();
+        this.invoker = MethodInvoker.of(method);
+        this.binder = FunctionBinders.find(method);
+    }
+
+    /**
+     * 获取功能接口文档，组件需要被@EnableInjectDocument标注
+     *
+     * @return 功能接口文档，不存在时返回null
+     */
+    public FunctionDocument getDocument() {
+        return FunctionDocuments.get(method);
+    }
+
+    /**
+     * 校验功能接口参数
+     *
+     * @param paramValues 功能接口的参数
+     * @param returnData 通过@ReturnData注入的返回结果
+     * @return 校验结果
+     */
+    public ValidationResult validate(List<String> paramValues, List<String> returnData) {
+        if (isShared()) {
+            // 缓存未命中时再合并并发的相同校验
+            return ValidationCache.validate(method, paramValues,
+                () -> ValidationCoalescer.validate(method, paramValues, () -> bind(paramValues, returnData)));
+        }
+        return bind(paramValues, returnData);
+    }
+
+    /**
+     * 校验并调用功能接口
+     *
+     * @param paramValues 功能接口的参数
+     * @param returnData 通过@ReturnData注入的返回结果
+     * @return 功能接口的返回值
+     * @throws Throwable 参数校验失败时抛出IllegalArgumentException，功能接口抛出的异常原样抛出
+     */
+    public Object invoke(List<String> paramValues, List<String> returnData) throws Throwable {
+        // 校验与调用使用同一个绑定器，避免期间被替换
+        final FunctionBinder functionBinder = binder;
+        if (functionBinder == null || isShared()) {
+            final ValidationResult result = validate(paramValues, returnData);
+            if (!result.isSuccess()) {
+                throw new IllegalArgumentException(result.getErrorMessage());
+            }
+            return functionBinder == null ? invoker.invoke(component, result.getParamValues())
+                : functionBinder.invoke(component, result.getParamValues());
+        }
+        // 绑定器直接返回参数列表的值，不再创建校验结果
+        final Object[] args;
+        try {
+            args = functionBinder.bind(paramValues, returnData);
+        } catch (Exception exception) {
+            log.error(exception.getMessage(), exception);
+            throw new IllegalArgumentException(exception.getMessage(), exception);
+        }
+        return functionBinder.invoke(component, args);
+    }
+
+    /**
+     * 预热功能接口：建立约束索引（初始化hibernate-validator的Bean元数据），开启了运行时编译且没有绑定器时立即编译绑定器，
+     * 然后使用@FunctionInterface的paramExample执行指定次数的校验，使json解析、约束校验等代码在对外提供服务前完成类加载与JIT编译。
+     * 预热只执行校验，不调用功能接口，也不经过校验结果缓存
+     *
+     * @param iterations 使用参数示例校验的次数
+     * @return 最后一次使用参数示例校验的结果，没有参数示例或参数示例不是JSON字符串数组时返回null
+     */
+    public ValidationResult warmup(int iterations) {
+        ConstraintIndex.index(method);
+        if (binder == null && FunctionBinders.getCompileThreshold() > 0) {
+            try {
+                binder = FunctionBinderCompiler.compile(method);
+            } catch (Exception exception) {
+                log.warn("Failed to compile FunctionBinder of " + method + ".", exception);
+            }
+        }
+        final List<String> example = parseParamExample();
+        if (example == null) {
+            return null;
+        }
+        ValidationResult result = null;
+        for (int index = 0; index < iterations; index++) {
+            // 每次使用新的参数列表，避免功能接口修改参数示例
+            result = bind(new ArrayList<>(example), new ArrayList<>());
+        }
+        if (result != null && !result.isSuccess()) {
+            log.warn("The paramExample of function \"{}\" is invalid: {}", name, result.getErrorMessage());
+        }
+        return result;
+    }
+
+    /*
+     * 解析参数示例，参数示例是JSON字符串数组，如：["1","2"]
+     */
+    private List<String> parseParamExample() {
+        if (StrUtil.isBlank(paramExample)) {
+            return null;
+        }
+        try {
+            return JSON.parseArray(paramExample, String.class);
+        } catch (Exception exception) {
+            log.warn("The paramExample of function \"{}\" is not a JSON array: {}", name, paramExample);
+            return null;
+        }
+    }
+
+    /*
+     * 是否复用相同入参的校验结果
+     */
+    private boolean isShared() {
+        return plan.isCacheable() && (ValidationCache.isEnabled() || ValidationCoalescer.isEnabled());
+    }
+
+    /*
+     * 使用绑定器或校验处理器校验功能接口参数
+     */
+    private ValidationResult bind(List<String> paramValues, List<String> returnData) {
+        final FunctionBinder functionBinder = binder;
+        if (functionBinder == null) {
+            return interpret(paramValues, returnData);
+        }
+        try {
+            return ValidationResult.success(functionBinder.bind(paramValues, returnData));
+        } catch (Exception exception) {
+            log.error(exception.getMessage(), exception);
+            return ValidationResult.failed().setErrorMessage(exception.getMessage());
+        }
+    }
+
+    /*
+     * 使用校验处理器解释执行校验，开启了运行时编译时调用次数达到编译阈值后在后台编译绑定器，编译完成后替换
+     */
+    private ValidationResult interpret(List<String> paramValues, List<String> returnData) {
+        final int threshold = FunctionBinders.getCompileThreshold();
+        if (threshold > 0 && interpretedCount.incrementAndGet() == threshold) {
+            FunctionBinders.compileAsync(method, compiled -> binder = compiled);
+        }
+        return Validation.validateDefaults(new ValidationMetadata(method, paramValues, returnData));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 功能接口文档，来自功能接口JavaDoc中的@hi-*标签
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:10
+ */
+@Getter
+public class FunctionDocument {
+    // 功能描述，@hi-description
+    private final String description;
+
+    // 参数说明，@hi-param，每个标签一项
+    private final List<String> params;
+
+    // 返回值说明，@hi-return
+    private final String returns;
+
+    // 参数示例，@hi-param-example
+    private final String paramExample;
+
+    public FunctionDocument(String description, List<String> params, String returns, String paramExample) {
+        this.description = description;
+        this.params = Collections.unmodifiableList(params);
+        this.returns = returns;
+        this.paramExample = paramExample;
+    }
+}
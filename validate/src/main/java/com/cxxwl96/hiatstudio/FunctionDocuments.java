@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 功能接口文档索引
+ * 文档由ast模块的注解处理器在编译期写入与组件class文件同目录的"组件类名.hi-doc.properties"资源文件，
+ * 首次获取某个组件的文档时读取一次资源文件并缓存，运行时不扫描源码也不反射解析
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:10
+ */
+@Slf4j
+public final class FunctionDocuments {
+    // 资源文件后缀
+    public static final String RESOURCE_SUFFIX = ".hi-doc.properties";
+
+    // 组件与文档资源的缓存
+    private static final Map<Class<?>, Properties> DOCUMENTS = new ConcurrentHashMap<>();
+
+    private FunctionDocuments() {
+    }
+
+    /**
+     * 获取功能接口文档
+     *
+     * @param method 功能接口方法
+     * @return 功能接口文档，组件未开启文档注入或方法上没有任何@hi-*标签时返回null
+     */
+    public static FunctionDocument get(Method method) {
+        final Properties documents = DOCUMENTS.computeIfAbsent(method.getDeclaringClass(), FunctionDocuments::load);
+        final String prefix = getSignature(method) + ".";
+        final String description = documents.getProperty(prefix + "hi-description");
+        final String params = documents.getProperty(prefix + "hi-param");
+        final String returns = documents.getProperty(prefix + "hi-return");
+        final String paramExample = documents.getProperty(prefix + "hi-param-example");
+        if (description == null && params == null && returns == null && paramExample == null) {
+            return null;
+        }
+        final List<String> paramList = params == null ? Collections.emptyList() : Arrays.asList(params.split("\n"));
+        return new FunctionDocument(description, paramList, returns, paramExample);
+    }
+
+    private static Properties load(Class<?> componentClass) {
+        final Properties documents = new Properties();
+        final String name = componentClass.getName();
+        final String resourceName = name.substring(name.lastIndexOf('.') + 1) + RESOURCE_SUFFIX;
+        try (InputStream inputStream = componentClass.getResourceAsStream(resourceName)) {
+            if (inputStream != null) {
+                documents.load(inputStream);
+            }
+        } catch (IOException exception) {
+            log.warn("Failed to load function documents of " + name + ".", exception);
+        }
+        return documents;
+    }
+
+    /*
+     * 获取方法签名，与注解处理器生成的键一致。如myFunction(int,java.lang.String)
+     */
+    private static String getSignature(Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+            .map(Class::getTypeName)
+            .collect(Collectors.joining(",", "(", ")"));
+    }
+}
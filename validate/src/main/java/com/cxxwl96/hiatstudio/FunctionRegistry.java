@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 功能接口注册中心
+ * 注册组件时扫描一次组件中被@FunctionInterface标注的方法，并按功能接口名建立索引，
+ * 按名称调用功能接口时只需一次哈希查找，然后通过MethodHandle直接调用
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 15:40
+ */
+public class FunctionRegistry {
+    // 功能接口名与功能接口的索引
+    private final Map<String, ComponentFunction> functions = new ConcurrentHashMap<>();
+
+    /**
+     * 注册组件，组件类型需要有无参构造器
+     *
+     * @param componentClass 组件类型
+     * @return FunctionRegistry
+     */
+    public FunctionRegistry register(Class<? extends AbstractComponent> componentClass) {
+        Assert.notNull(componentClass, "componentClass cannot be null.");
+        return register(ReflectUtil.newInstance(componentClass));
+    }
+
+    /**
+     * 注册组件，扫描组件及其父类中被@FunctionInterface标注的方法
+     *
+     * @param component 组件
+     * @return FunctionRegistry
+     */
+    public FunctionRegistry register(AbstractComponent component) {
+        Assert.notNull(component, "component cannot be null.");
+        // 子类重写的方法优先，父类中被重写的方法不再注册
+        final Set<List<Object>> signatures = new HashSet<>();
+        for (Class<?> clazz = component.getClass(); clazz != AbstractComponent.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic() || !method.isAnnotationPresent(FunctionInterface.class)) {
+                    continue;
+                }
+                if (!signatures.add(Arrays.asList(method.getName(), Arrays.asList(method.getParameterTypes())))) {
+                    continue;
+                }
+                final ComponentFunction function = new ComponentFunction(component, method);
+                final ComponentFunction existing = functions.putIfAbsent(function.getName(), function);
+                if (existing != null) {
+                    final String error = String.format(Locale.ROOT,
+                        "Duplicate function name \"%s\". It is declared by both %s and %s.", function.getName(),
+                        existing.getMethod(), method);
+                    throw new IllegalStateException(error);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取功能接口
+     *
+     * @param name 功能接口名
+     * @return 功能接口，不存在时返回null
+     */
+    public ComponentFunction getFunction(String name) {
+        return functions.get(name);
+    }
+
+    /**
+     * 获取所有功能接口
+     *
+     * @return 所有功能接口
+     */
+    public Collection<ComponentFunction> getFunctions() {
+        return Collections.unmodifiableCollection(functions.values());
+    }
+
+    /**
+     * 预热所有功能接口，应在服务对外提供服务前调用，见ComponentFunction.warmup()
+     *
+     * @param iterations 每个功能接口使用参数示例校验的次数
+     * @return FunctionRegistry
+     */
+    public FunctionRegistry warmup(int iterations) {
+        for (ComponentFunction function : functions.values()) {
+            function.warmup(iterations);
+        }
+        return this;
+    }
+
+    /**
+     * 按名称校验并调用功能接口
+     *
+     * @param name 功能接口名
+     * @param paramValues 功能接口的参数
+     * @return 功能接口的返回值
+     * @throws Throwable 功能接口不存在或参数校验失败时抛出IllegalArgumentException，功能接口抛出的异常原样抛出
+     */
+    public Object invoke(String name, List<String> paramValues) throws Throwable {
+        return invoke(name, paramValues, new ArrayList<>());
+    }
+
+    /**
+     * 按名称校验并调用功能接口
+     *
+     * @param name 功能接口名
+     * @param paramValues 功能接口的参数
+     * @param returnData 通过@ReturnData注入的返回结果
+     * @return 功能接口的返回值
+     * @throws Throwable 功能接口不存在或参数校验失败时抛出IllegalArgumentException，功能接口抛出的异常原样抛出
+     */
+    public Object invoke(String name, List<String> paramValues, List<String> returnData) throws Throwable {
+        final ComponentFunction function = functions.get(name);
+        if (function == null) {
+            throw new IllegalArgumentException("Function \"" + name + "\" does not exist.");
+        }
+        return function.invoke(paramValues, returnData);
+    }
+}
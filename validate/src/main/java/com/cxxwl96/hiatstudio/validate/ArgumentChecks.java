@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.IgnoreField;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluators;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import cn.hutool.core.util.ModifierUtil;
+
+/**
+ * 入参的结构检查
+ * 编译校验计划时把参数个数、索引越界、字符串参数的非空等开销很小的检查整理为一组检查，每个参数只检查会处理它的第一个默认校验处理器
+ * （与Validation中的顺序一致）的结构约束；同时编译延迟转换的参数读取的参数值位置
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:58
+ */
+final class ArgumentChecks implements Constraintable {
+    // 复用校验处理器接口中的索引查找逻辑
+    private static final ArgumentValidatorHandler<?> SUPPORT = (metadata, chain, element) -> null;
+
+    // 参数名槽位表
+    private final ParamNameTable nameTable;
+
+    // 入参的结构检查，按参数顺序排列
+    private final ArgumentCheck[] checks;
+
+    // 延迟转换的参数读取的参数值位置，其他参数为null
+    private final SlotResolver[][] lazySlots;
+
+    /**
+     * 构造方法，编译方法的入参结构检查，方法签名的结构必须正确
+     *
+     * @param method 方法
+     * @param parameters 方法参数
+     * @param paramNames 参数名
+     * @param nameTable 参数名槽位表
+     */
+    ArgumentChecks(Method method, Parameter[] parameters, List<String> paramNames, ParamNameTable nameTable) {
+        this.nameTable = nameTable;
+        this.checks = compileChecks(method, parameters, paramNames);
+        this.lazySlots = compileLazySlots(parameters, paramNames);
+    }
+
+    /**
+     * 对所有参数执行入参的结构检查
+     *
+     * @param paramValues 输入的参数值
+     * @throws IllegalArgumentException 入参的结构错误
+     */
+    void check(List<String> paramValues) {
+        for (ArgumentCheck check : checks) {
+            check.check(paramValues);
+        }
+    }
+
+    /**
+     * 获取延迟转换的参数读取的参数值位置
+     *
+     * @param index 方法参数索引
+     * @param paramValues 输入的参数值
+     * @return 参数值位置
+     * @throws IllegalArgumentException 命名参数源中不存在需要的参数名
+     */
+    int[] resolveLazySlots(int index, List<String> paramValues) {
+        final SlotResolver[] resolvers = lazySlots[index];
+        final int[] slots = new int[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) {
+            slots[i] = resolvers[i].resolve(paramValues);
+        }
+        return slots;
+    }
+
+    /*
+     * 编译入参的结构检查，@ParamValidator的参数个数校验优先级最高
+     */
+    private ArgumentCheck[] compileChecks(Method method, Parameter[] parameters, List<String> paramNames) {
+        final List<ArgumentCheck> argumentChecks = new ArrayList<>();
+        final ParamValidator paramValidator = method.getAnnotation(ParamValidator.class);
+        if (paramValidator != null && paramValidator.size() >= 0) {
+            final int size = paramValidator.size();
+            argumentChecks.add(paramValues -> constraintSize(size, paramValues.size()));
+        }
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            final String paramName = paramNames.get(index);
+            final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+            final JsonParam jsonParam = parameter.getAnnotation(JsonParam.class);
+            if (basicParam != null) {
+                final SlotResolver slot = slotOf(paramName, basicParam.name(), basicParam.index());
+                argumentChecks.add(indexCheck(paramName, slot));
+                final List<ConstraintEvaluator> evaluators = basicParam.require() && parameter.getType() == String.class
+                    ? compileNotBlankEvaluators(parameter) : null;
+                if (evaluators != null && !evaluators.isEmpty()) {
+                    argumentChecks.add(notBlankCheck(paramName, slot, evaluators));
+                }
+            } else if (jsonParam != null) {
+                argumentChecks.add(indexCheck(paramName, slotOf(paramName, jsonParam.name(), jsonParam.index())));
+            } else if (parameter.isAnnotationPresent(BeanParam.class)) {
+                final int size = parameter.getAnnotation(BeanParam.class).size();
+                argumentChecks.add(paramValues -> constraintSize(size, paramValues.size()));
+                fieldSlotsOf(Lazy.getValueType(parameter)).forEach(
+                    (fieldName, slot) -> argumentChecks.add(indexCheck(fieldName, slot)));
+            } else if (parameter.isAnnotationPresent(ListParam.class)) {
+                final int size = parameter.getAnnotation(ListParam.class).size();
+                argumentChecks.add(paramValues -> constraintSize(size, paramValues.size()));
+            }
+        }
+        return argumentChecks.toArray(new ArgumentCheck[0]);
+    }
+
+    /*
+     * 编译延迟转换的参数读取的参数值位置，只有@JsonParam、@BeanParam可以延迟转换
+     */
+    private SlotResolver[][] compileLazySlots(Parameter[] parameters, List<String> paramNames) {
+        final SlotResolver[][] slots = new SlotResolver[parameters.length][];
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            if (!Lazy.isLazy(parameter)) {
+                continue;
+            }
+            final JsonParam jsonParam = parameter.getAnnotation(JsonParam.class);
+            slots[index] = jsonParam != null ? new SlotResolver[] {
+                slotOf(paramNames.get(index), jsonParam.name(), jsonParam.index())
+            } : fieldSlotsOf(Lazy.getValueType(parameter)).values().toArray(new SlotResolver[0]);
+        }
+        return slots;
+    }
+
+    /*
+     * @BeanParam字段读取的参数值位置，与BeanParamHandler一致：@JsonParam字段按注解配置，其他字段命名参数源按字段名、否则按字段顺序接收
+     */
+    private Map<String, SlotResolver> fieldSlotsOf(Class<?> beanClass) {
+        final Map<String, SlotResolver> slots = new LinkedHashMap<>();
+        int position = 0;
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (ModifierUtil.isStatic(field) || field.isAnnotationPresent(IgnoreField.class)) {
+                continue;
+            }
+            final String fieldName = field.getName();
+            final JsonParam jsonParam = field.getAnnotation(JsonParam.class);
+            if (jsonParam != null) {
+                slots.put(fieldName, slotOf(fieldName, jsonParam.name(), jsonParam.index()));
+                continue;
+            }
+            final int fieldIndex = position++;
+            slots.put(fieldName, paramValues -> paramValues instanceof NamedParamSource ? SUPPORT.indexOf(fieldName,
+                paramValues, nameTable, fieldName, -1) : fieldIndex);
+        }
+        return slots;
+    }
+
+    private SlotResolver slotOf(String paramName, String name, int index) {
+        return paramValues -> SUPPORT.indexOf(paramName, paramValues, nameTable, name, index);
+    }
+
+    private ArgumentCheck indexCheck(String paramName, SlotResolver slot) {
+        return paramValues -> constraintIndexOutOfRange(paramName, slot.resolve(paramValues), paramValues.size());
+    }
+
+    private static ArgumentCheck notBlankCheck(String paramName, SlotResolver slot,
+        List<ConstraintEvaluator> evaluators) {
+        return paramValues -> {
+            final String paramValue = paramValues.get(slot.resolve(paramValues));
+            for (ConstraintEvaluator evaluator : evaluators) {
+                if (!evaluator.isValid(paramValue)) {
+                    throw new IllegalArgumentException(evaluator.getErrorMessage(paramName, paramValue));
+                }
+            }
+        };
+    }
+
+    /*
+     * 编译参数上的@NotNull、@NotEmpty、@NotBlank，存在快速校验器不支持的配置时返回null，由hibernate-validator在转换后校验
+     */
+    private static List<ConstraintEvaluator> compileNotBlankEvaluators(Parameter parameter) {
+        final List<Annotation> annotations = new ArrayList<>();
+        for (Annotation annotation : parameter.getAnnotations()) {
+            if (annotation instanceof NotNull || annotation instanceof NotEmpty || annotation instanceof NotBlank) {
+                annotations.add(annotation);
+            }
+        }
+        return ConstraintEvaluators.compile(String.class, annotations);
+    }
+
+    /*
+     * 入参的结构检查
+     */
+    @FunctionalInterface
+    private interface ArgumentCheck {
+        void check(List<String> paramValues);
+    }
+
+    /*
+     * 参数值的位置
+     */
+    @FunctionalInterface
+    private interface SlotResolver {
+        int resolve(List<String> paramValues);
+    }
+}
@@ -20,8 +20,14 @@ import com.alibaba.fastjson.util.TypeUtils;
 import com.cxxwl96.hiatstudio.validate.exceptions.TypeCastException;
 import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.LineSource;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -53,6 +59,11 @@ public interface ArgumentValidatorHandler<A extends Annotation> extends Initiali
      * @throws TypeCastException 类型转换失败异常
      */
     default Object typeCast(String paramName, Object paramValue, Class<?> paramTypeClass) throws TypeCastException {
+        // 十进制整数及布尔值直接转换
+        final Object simpleValue = TypeCastUtil.castSimple(paramValue, paramTypeClass);
+        if (simpleValue != null) {
+            return simpleValue;
+        }
         // 复杂的类型转换，基本数据类型及字符串的转换
         try {
             return TypeUtils.cast(paramValue, paramTypeClass, null);
@@ -63,4 +74,74 @@ public interface ArgumentValidatorHandler<A extends Annotation> extends Initiali
             throw new TypeCastException(error, exception);
         }
     }
+
+    /**
+     * 输入参数的类型转换，参数源是ParamSource时直接从字符、字节或参数帧中的原本类型转换
+     *
+     * @param paramName 参数名
+     * @param paramValues 输入的参数值
+     * @param index 参数索引
+     * @param paramTypeClass 需要转换的参数类型
+     * @return 转换之后的对象
+     * @throws TypeCastException 类型转换失败异常
+     */
+    default Object typeCast(String paramName, List<String> paramValues, int index, Class<?> paramTypeClass)
+        throws TypeCastException {
+        if (paramValues instanceof ParamSource) {
+            final ParamSource source = (ParamSource) paramValues;
+            final Object simpleValue = source.castSimple(index, paramTypeClass);
+            if (simpleValue != null) {
+                return simpleValue;
+            }
+            // 二进制参数帧中的参数值从其原本的类型转换，不再解析文本
+            return typeCast(paramName, source.getValue(index), paramTypeClass);
+        }
+        return typeCast(paramName, paramValues.get(index), paramTypeClass);
+    }
+
+    /**
+     * 获取参数值的位置，输入的参数是命名参数源并且配置了参数名时按名称查找，否则使用配置的位置
+     *
+     * @param paramName 参数名
+     * @param paramValues 输入的参数值
+     * @param nameTable 方法的参数名槽位表
+     * @param name 需要接收参数的名称
+     * @param index 需要接收参数的位置
+     * @return 参数值的位置
+     */
+    default int indexOf(String paramName, List<String> paramValues, ParamNameTable nameTable, String name,
+        int index) {
+        if (name.isEmpty()) {
+            return index;
+        }
+        if (paramValues instanceof NamedParamSource) {
+            final int position = ((NamedParamSource) paramValues).indexOf(nameTable, name);
+            if (position < 0) {
+                throw new IllegalArgumentException(
+                    "Parameter \"" + paramName + "\" requires the named value \"" + name + "\".");
+            }
+            return position;
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                "Parameter \"" + paramName + "\" can only be received by the name \"" + name + "\".");
+        }
+        return index;
+    }
+
+    /**
+     * 列表参数的个数约束，只能读取一次的按行读取参数源在遍历时校验个数
+     *
+     * @param expectedSize 期望的个数，小于0不做校验
+     * @param paramValues 输入的参数值
+     * @return 需要传递给功能接口的参数值
+     */
+    default List<String> constraintListSize(int expectedSize, List<String> paramValues) {
+        if (paramValues instanceof LineSource && !((LineSource) paramValues).isRepeatable()) {
+            // 遍历前无法获取个数
+            return expectedSize >= 0 ? ((LineSource) paramValues).expectSize(expectedSize) : paramValues;
+        }
+        constraintSize(expectedSize, paramValues.size());
+        return paramValues;
+    }
 }
@@ -16,21 +16,17 @@
 
 package com.cxxwl96.hiatstudio.validate;
 
-import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.extra.validation.BeanValidationResult;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintBeans;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.metadata.ConstraintIndex;
+import com.cxxwl96.hiatstudio.validate.metadata.ParameterConstraint;
 import com.cxxwl96.hiatstudio.validate.utils.ValidationUtil;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.DynamicType;
 
 import java.lang.annotation.Annotation;
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Target;
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 /**
  * 参数约束接口
@@ -78,24 +74,27 @@ public interface Constraintable {
      */
     default void constraintHibernateValidateAnnotations(Parameter parameter, String paramName, Object paramValue)
             throws InstantiationException, IllegalAccessException {
+        // 方法参数上不存在约束注解则无需生成bean进行校验
+        final ParameterConstraint constraint = ConstraintIndex.getConstraint(parameter);
+        if (!constraint.isConstrained()) {
+            return;
+        }
+        // 常用的内置约束直接使用快速校验器校验
+        if (constraint.isFastPath(paramValue)) {
+            final List<ConstraintEvaluator> evaluators = constraint.getEvaluators();
+            for (int index = 0; index < evaluators.size(); index++) {
+                final ConstraintEvaluator evaluator = evaluators.get(index);
+                if (!evaluator.isValid(paramValue)) {
+                    throw new IllegalArgumentException(evaluator.getErrorMessage(paramName, paramValue));
+                }
+            }
+            return;
+        }
+        // 得到可以放置在类属性上的约束注解
+        final List<Annotation> validAnnoList = constraint.getAnnotations();
         // 使用字节码增强动态生成bean对象，将方法参数上的hibernate-validator的校验注解和对应的方法参数动态生成javabean
         // 最后通过validate校验
-        DynamicType.Builder<Object> dynamicBean = new ByteBuddy().subclass(Object.class).name("HibernateValidateBean");
-        // 过滤得到可以放置在类属性上的注解
-        List<Annotation> validAnnoList = Arrays.stream(parameter.getAnnotations()).filter(annotation -> {
-            // 获取参数上注解类的Target注解
-            return Arrays.stream(annotation.annotationType().getAnnotation(Target.class).value())
-                    .anyMatch(elementType -> elementType == ElementType.FIELD);
-        }).collect(Collectors.toList());
-        // 将被@BasicParam修饰的参数存入动态bean中
-        final Object beanInstance = dynamicBean.defineField(paramName, parameter.getType(), Visibility.PUBLIC)
-                .annotateField(validAnnoList)
-                .make()
-                .load(parameter.getType().getClassLoader())
-                .getLoaded()
-                .newInstance();
-        // 给validInstance字段赋值
-        ReflectUtil.setFieldValue(beanInstance, paramName, paramValue);
+        final Object beanInstance = ConstraintBeans.newInstance(parameter, paramName, validAnnoList, paramValue);
         // 最终通过validate进行校验
         constraintHibernateValidate(beanInstance);
     }
@@ -106,6 +105,10 @@ public interface Constraintable {
      * @param beanInstance 需要校验的对象
      */
     default void constraintHibernateValidate(Object beanInstance) {
+        // bean类型上不存在约束则无需校验
+        if (beanInstance != null && !ConstraintIndex.isBeanConstrained(beanInstance.getClass())) {
+            return;
+        }
         final BeanValidationResult result = ValidationUtil.warpValidate(beanInstance);
         if (!result.isSuccess()) {
             for (BeanValidationResult.ErrorMessage message : result.getErrorMessages()) {
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+/**
+ * 自定义校验处理器工厂，可接入DI容器，例如：CustomValidatorRegistry.setFactory(applicationContext::getBean)
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 13:05
+ */
+@FunctionalInterface
+public interface CustomValidatorFactory {
+    /**
+     * 创建自定义校验处理器
+     *
+     * @param handlerClass 自定义校验处理器类型
+     * @return 自定义校验处理器实例
+     */
+    CustomValidatorHandler create(Class<? extends CustomValidatorHandler> handlerClass);
+}
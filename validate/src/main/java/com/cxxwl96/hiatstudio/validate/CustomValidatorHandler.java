@@ -20,6 +20,7 @@ import java.util.List;
 
 /**
  * 自定义校验接口
+ * 实例由CustomValidatorRegistry创建并全局复用，实现需要线程安全，否则需标注@ThreadLocalHandler
  *
  * @author cxxwl96
  * @since 2023/3/8 14:27
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.validate.annotations.ThreadLocalHandler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 自定义校验处理器注册中心
+ * 每个自定义校验处理器只创建一次并在多次调用中复用；标注了@ThreadLocalHandler的自定义校验处理器每个线程创建一次。
+ * 默认通过反射创建实例，也可以通过setFactory()从DI容器等获取实例；通过register()注册的实例优先于工厂创建的实例
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 13:05
+ */
+public final class CustomValidatorRegistry {
+    // 默认工厂，反射调用无参构造器创建实例
+    private static final CustomValidatorFactory DEFAULT_FACTORY = ReflectUtil::newInstance;
+
+    // 注册的自定义校验处理器实例，不受工厂切换影响
+    private static final Map<Class<? extends CustomValidatorHandler>, CustomValidatorHandler> REGISTERED
+        = new ConcurrentHashMap<>();
+
+    // 工厂创建的自定义校验处理器实例提供者
+    private static final Map<Class<? extends CustomValidatorHandler>, Supplier<CustomValidatorHandler>> HANDLERS
+        = new ConcurrentHashMap<>();
+
+    // 自定义校验处理器工厂
+    private static volatile CustomValidatorFactory factory = DEFAULT_FACTORY;
+
+    // 并发执行相互独立的自定义校验处理器的线程池
+    private static volatile Executor executor;
+
+    private CustomValidatorRegistry() {
+    }
+
+    /**
+     * 设置自定义校验处理器工厂，工厂已创建的实例将被清除，通过register()注册的实例保留
+     *
+     * @param customValidatorFactory 自定义校验处理器工厂，为null时恢复默认工厂
+     */
+    public static void setFactory(CustomValidatorFactory customValidatorFactory) {
+        factory = customValidatorFactory == null ? DEFAULT_FACTORY : customValidatorFactory;
+        HANDLERS.clear();
+    }
+
+    /**
+     * 设置并发执行相互独立的自定义校验处理器（@IndependentValidator）的线程池
+     *
+     * @param customValidatorExecutor 线程池，为null时使用默认线程池
+     */
+    public static void setExecutor(Executor customValidatorExecutor) {
+        executor = customValidatorExecutor;
+    }
+
+    /**
+     * 获取并发执行相互独立的自定义校验处理器的线程池，未设置时创建默认线程池（守护线程，线程数为CPU核数）
+     *
+     * @return 线程池
+     */
+    public static Executor getExecutor() {
+        Executor customValidatorExecutor = executor;
+        if (customValidatorExecutor == null) {
+            synchronized (CustomValidatorRegistry.class) {
+                customValidatorExecutor = executor;
+                if (customValidatorExecutor == null) {
+                    final ThreadFactory threadFactory = ThreadFactoryBuilder.create()
+                        .setNamePrefix("custom-validator-")
+                        .setDaemon(true)
+                        .build();
+                    customValidatorExecutor = Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(), threadFactory);
+                    executor = customValidatorExecutor;
+                }
+            }
+        }
+        return customValidatorExecutor;
+    }
+
+    /**
+     * 注册自定义校验处理器实例，该实例将被所有线程共享
+     *
+     * @param handlerClass 自定义校验处理器类型
+     * @param handler 自定义校验处理器实例
+     */
+    public static void register(Class<? extends CustomValidatorHandler> handlerClass, CustomValidatorHandler handler) {
+        Assert.notNull(handlerClass, "handlerClass cannot be null.");
+        Assert.notNull(handler, "handler cannot be null.");
+        REGISTERED.put(handlerClass, handler);
+    }
+
+    /**
+     * 获取自定义校验处理器实例
+     *
+     * @param handlerClass 自定义校验处理器类型
+     * @return 自定义校验处理器实例
+     */
+    public static CustomValidatorHandler getHandler(Class<? extends CustomValidatorHandler> handlerClass) {
+        final CustomValidatorHandler handler = REGISTERED.get(handlerClass);
+        if (handler != null) {
+            return handler;
+        }
+        return HANDLERS.computeIfAbsent(handlerClass, CustomValidatorRegistry::newSupplier).get();
+    }
+
+    private static Supplier<CustomValidatorHandler> newSupplier(Class<? extends CustomValidatorHandler> handlerClass) {
+        final CustomValidatorFactory handlerFactory = factory;
+        // 非线程安全的自定义校验处理器，每个线程一个实例
+        if (handlerClass.isAnnotationPresent(ThreadLocalHandler.class)) {
+            final ThreadLocal<CustomValidatorHandler> threadLocal = ThreadLocal.withInitial(
+                () -> newInstance(handlerFactory, handlerClass));
+            return threadLocal::get;
+        }
+        // 全局单例
+        final CustomValidatorHandler handler = newInstance(handlerFactory, handlerClass);
+        return () -> handler;
+    }
+
+    private static CustomValidatorHandler newInstance(CustomValidatorFactory handlerFactory,
+        Class<? extends CustomValidatorHandler> handlerClass) {
+        final CustomValidatorHandler handler = handlerFactory.create(handlerClass);
+        Assert.notNull(handler, "Custom validator handler {} cannot be created.", handlerClass.getName());
+        return handler;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.IgnoreField;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.annotations.ReturnData;
+import com.cxxwl96.hiatstudio.validate.handler.BasicParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.BeanParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.JsonParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ListParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ParamValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ReturnDataHandler;
+import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import cn.hutool.core.util.ModifierUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 默认的校验处理器
+ * 与ValidationBuilder.addDefaultValidators()的校验处理器一致，每个方法只在编译校验计划时创建一次：@ParamValidator及每个方法参数上的
+ * 校验处理器按注解初始化一次，@BeanParam需要注入的字段、字段的setter方法、字段上的@JsonParam校验处理器及字段的元数据也只获取一次。
+ * 校验处理器初始化后只读取注解，可以在多个线程中同时使用
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:50
+ */
+public final class DefaultValidators {
+    // 方法校验处理器，方法被@ParamValidator标注时为@ParamValidator校验处理器
+    private final MethodValidatorHandler<?>[] methodValidators;
+
+    // 每个方法参数的参数校验处理器，按ValidationBuilder.addDefaultValidators()的顺序排列
+    private final ArgumentValidatorHandler<?>[][] argumentValidators;
+
+    // @BeanParam需要注入的字段（过滤了静态字段以及忽略的字段）
+    private final Map<Class<?>, Field[]> beanFields = new HashMap<>();
+
+    // @BeanParam字段的setter方法，没有setter方法时为null
+    private final Map<Field, Method> fieldSetters = new HashMap<>();
+
+    // @BeanParam字段上的@JsonParam校验处理器
+    private final Map<Field, JsonParamHandler> fieldValidators = new HashMap<>();
+
+    // @BeanParam字段的元数据
+    private final Map<Field, ElementMetadata> fieldElements = new HashMap<>();
+
+    DefaultValidators(Method method, Parameter[] parameters) {
+        final ParamValidator paramValidator = method.getAnnotation(ParamValidator.class);
+        if (paramValidator != null) {
+            final ParamValidatorHandler validator = new ParamValidatorHandler();
+            validator.initialize(paramValidator);
+            methodValidators = new MethodValidatorHandler<?>[] {validator};
+        } else {
+            methodValidators = new MethodValidatorHandler<?>[0];
+        }
+        argumentValidators = new ArgumentValidatorHandler<?>[parameters.length][];
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            final List<ArgumentValidatorHandler<?>> validators = new ArrayList<>();
+            final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+            if (basicParam != null) {
+                add(validators, new BasicParamHandler(), basicParam);
+            }
+            final JsonParam jsonParam = parameter.getAnnotation(JsonParam.class);
+            if (jsonParam != null) {
+                add(validators, new JsonParamHandler(), jsonParam);
+            }
+            final BeanParam beanParam = parameter.getAnnotation(BeanParam.class);
+            if (beanParam != null) {
+                add(validators, new BeanParamHandler(), beanParam);
+                addFields(Lazy.getValueType(parameter));
+            }
+            final ListParam listParam = parameter.getAnnotation(ListParam.class);
+            if (listParam != null) {
+                add(validators, new ListParamHandler(), listParam);
+            }
+            final ReturnData returnData = parameter.getAnnotation(ReturnData.class);
+            if (returnData != null) {
+                add(validators, new ReturnDataHandler(), returnData);
+            }
+            argumentValidators[index] = validators.toArray(new ArgumentValidatorHandler<?>[0]);
+        }
+    }
+
+    /**
+     * 获取方法校验处理器，返回的数组不允许修改
+     *
+     * @return 方法校验处理器
+     */
+    MethodValidatorHandler<?>[] getMethodValidators() {
+        return methodValidators;
+    }
+
+    /**
+     * 获取方法参数的参数校验处理器，返回的数组不允许修改
+     *
+     * @param index 方法参数索引
+     * @return 参数校验处理器
+     */
+    ArgumentValidatorHandler<?>[] getArgumentValidators(int index) {
+        return argumentValidators[index];
+    }
+
+    /**
+     * 获取@BeanParam需要注入的字段，返回的数组不允许修改
+     *
+     * @param beanClass @BeanParam接收的类型
+     * @return 按声明顺序排列的字段
+     */
+    public Field[] getBeanFields(Class<?> beanClass) {
+        return beanFields.get(beanClass);
+    }
+
+    /**
+     * 获取@BeanParam字段的setter方法
+     *
+     * @param field @BeanParam字段
+     * @return setter方法，没有public的setter方法时为null
+     */
+    public Method getFieldSetter(Field field) {
+        return fieldSetters.get(field);
+    }
+
+    /**
+     * 获取@BeanParam字段上的@JsonParam校验处理器
+     *
+     * @param field @BeanParam字段
+     * @return 校验处理器，字段未被@JsonParam标注时为null
+     */
+    public JsonParamHandler getFieldValidator(Field field) {
+        return fieldValidators.get(field);
+    }
+
+    /**
+     * 获取@BeanParam字段的元数据
+     *
+     * @param field @BeanParam字段
+     * @return 字段的元数据，字段未被@JsonParam标注时为null
+     */
+    public ElementMetadata getFieldElement(Field field) {
+        return fieldElements.get(field);
+    }
+
+    private void addFields(Class<?> beanClass) {
+        if (beanFields.containsKey(beanClass)) {
+            return;
+        }
+        final List<Field> injected = new ArrayList<>();
+        final Field[] fields = beanClass.getDeclaredFields();
+        for (int index = 0; index < fields.length; index++) {
+            final Field field = fields[index];
+            // 过滤静态的字段以及忽略的字段
+            if (ModifierUtil.isStatic(field) || field.isAnnotationPresent(IgnoreField.class)) {
+                continue;
+            }
+            injected.add(field);
+            fieldSetters.put(field, findFieldSetterMethod(beanClass, field));
+            final JsonParam jsonParam = field.getAnnotation(JsonParam.class);
+            if (jsonParam != null) {
+                final JsonParamHandler validator = new JsonParamHandler();
+                validator.initialize(jsonParam);
+                fieldValidators.put(field, validator);
+                fieldElements.put(field, new ElementMetadata(field, index, field.getName()));
+            }
+        }
+        beanFields.put(beanClass, injected.toArray(new Field[0]));
+    }
+
+    /**
+     * 在class中查找字段的setter方法
+     *
+     * @param clazz 需要查找的类
+     * @param field 需要查找的字段
+     * @return 查找到的setter方法
+     */
+    private static Method findFieldSetterMethod(Class<?> clazz, Field field) {
+        final String fieldName = field.getName();
+        String methodName = "set" + fieldName.substring(0, 1).toUpperCase(Locale.ROOT) + fieldName.substring(1);
+        try {
+            return ReflectUtil.getPublicMethod(clazz, methodName, field.getType());
+        } catch (SecurityException exception) {
+            return null;
+        }
+    }
+
+    private static <A extends Annotation> void add(List<ArgumentValidatorHandler<?>> validators,
+        ArgumentValidatorHandler<A> validator, A annotation) {
+        validator.initialize(annotation);
+        validators.add(validator);
+    }
+}
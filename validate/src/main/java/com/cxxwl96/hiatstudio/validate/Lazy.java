@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.TypeUtil;
+
+/**
+ * 延迟转换的参数值
+ * 被@JsonParam、@BeanParam标注的Lazy&lt;T&gt;类型的参数，校验时只检查参数个数、索引等结构，
+ * json解析、JavaBean绑定以及hibernate-validator校验推迟到功能接口第一次调用get()时执行，结果只计算一次。
+ * 校验失败时get()抛出与立即校验相同错误消息的IllegalArgumentException。
+ * 延迟转换只读取校验时保留的参数值的快照，之后修改入参不影响转换。
+ * 使用ValidationBuilder添加了默认以外的校验实体时，参数按添加的校验实体立即转换，参数值是已转换的Lazy
+ *
+ * @param <T> 参数值的类型
+ * @author cxxwl96
+ * @since 2026/10/19 18:10
+ */
+public final class Lazy<T> implements Supplier<T> {
+    // 参数值的计算，计算完成后置为null
+    private Callable<? extends T> materializer;
+
+    // 参数值
+    private T value;
+
+    // 校验失败异常
+    private IllegalArgumentException error;
+
+    // 是否已计算
+    private volatile boolean materialized;
+
+    private Lazy(Callable<? extends T> materializer) {
+        this.materializer = materializer;
+    }
+
+    /**
+     * 创建延迟转换的参数值
+     *
+     * @param materializer 参数值的计算，抛出的异常作为校验失败
+     * @param <T> 参数值的类型
+     * @return 延迟转换的参数值
+     */
+    public static <T> Lazy<T> of(Callable<? extends T> materializer) {
+        Assert.notNull(materializer, "materializer cannot be null.");
+        return new Lazy<>(materializer);
+    }
+
+    /**
+     * 创建已转换的参数值，用于直接调用功能接口
+     *
+     * @param value 参数值
+     * @param <T> 参数值的类型
+     * @return 已转换的参数值
+     */
+    public static <T> Lazy<T> value(T value) {
+        final Lazy<T> lazy = new Lazy<>(null);
+        lazy.value = value;
+        lazy.materialized = true;
+        return lazy;
+    }
+
+    /**
+     * 获取参数值，第一次获取时转换并校验
+     *
+     * @return 参数值
+     * @throws IllegalArgumentException 参数校验失败
+     */
+    @Override
+    public T get() {
+        if (!materialized) {
+            synchronized (this) {
+                if (!materialized) {
+                    try {
+                        value = materializer.call();
+                    } catch (Exception exception) {
+                        error = exception instanceof IllegalArgumentException ? (IllegalArgumentException) exception
+                            : new IllegalArgumentException(exception.getMessage(), exception);
+                    }
+                    materializer = null;
+                    materialized = true;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    /**
+     * 参数值是否已转换
+     *
+     * @return 是否已转换
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * 方法参数是否是延迟转换的参数
+     *
+     * @param parameter 方法参数
+     * @return 是否是延迟转换的参数
+     */
+    public static boolean isLazy(Parameter parameter) {
+        return parameter.getType() == Lazy.class;
+    }
+
+    /**
+     * 获取方法参数接收的值的类型，Lazy&lt;T&gt;类型的参数为T，其他参数为参数类型
+     *
+     * @param parameter 方法参数
+     * @return 值的类型，Lazy未指定类型参数时为Object
+     */
+    public static Class<?> getValueType(Parameter parameter) {
+        if (!isLazy(parameter)) {
+            return parameter.getType();
+        }
+        final Type type = parameter.getParameterizedType();
+        if (!(type instanceof ParameterizedType)) {
+            return Object.class;
+        }
+        final Class<?> valueType = TypeUtil.getClass(((ParameterizedType) type).getActualTypeArguments()[0]);
+        return valueType == null ? Object.class : valueType;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.IgnoreField;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+import cn.hutool.core.util.ModifierUtil;
+
+/**
+ * 参数名槽位表的构建
+ * 收集方法中按名称接收的参数名：@BasicParam、@JsonParam配置的name，@BeanParam的字段名或字段上@JsonParam配置的name
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:58
+ */
+final class NameTableBuilder {
+    private NameTableBuilder() {
+    }
+
+    /**
+     * 构建方法的参数名槽位表
+     *
+     * @param parameters 方法参数
+     * @return 参数名槽位表
+     */
+    static ParamNameTable build(Parameter[] parameters) {
+        final List<String> names = new ArrayList<>();
+        for (Parameter parameter : parameters) {
+            final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+            if (basicParam != null && !basicParam.name().isEmpty()) {
+                names.add(basicParam.name());
+            }
+            final JsonParam jsonParam = parameter.getAnnotation(JsonParam.class);
+            if (jsonParam != null && !jsonParam.name().isEmpty()) {
+                names.add(jsonParam.name());
+            }
+            if (parameter.isAnnotationPresent(BeanParam.class)) {
+                for (Field field : Lazy.getValueType(parameter).getDeclaredFields()) {
+                    if (ModifierUtil.isStatic(field) || field.isAnnotationPresent(IgnoreField.class)) {
+                        continue;
+                    }
+                    final JsonParam fieldJsonParam = field.getAnnotation(JsonParam.class);
+                    if (fieldJsonParam == null) {
+                        names.add(field.getName());
+                    } else if (!fieldJsonParam.name().isEmpty()) {
+                        names.add(fieldJsonParam.name());
+                    }
+                }
+            }
+        }
+        return ParamNameTable.of(names.toArray(new String[0]));
+    }
+}
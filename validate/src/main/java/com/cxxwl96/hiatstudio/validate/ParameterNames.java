@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 方法参数名
+ * 编译时保留了参数名（-parameters）则直接使用反射获取的参数名，否则使用Spring的参数名工具读取类文件中的调试信息
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:58
+ */
+final class ParameterNames {
+    private ParameterNames() {
+    }
+
+    /**
+     * 获取方法参数名，无法获取参数名时（未保留调试信息）使用arg0、arg1...
+     *
+     * @param method 方法
+     * @return 方法参数名
+     */
+    static List<String> discover(Method method) {
+        final Parameter[] parameters = method.getParameters();
+        final List<String> paramNames = new ArrayList<>(parameters.length);
+        // 保留了参数名时无需加载Spring的参数名工具
+        if (parameters.length == 0 || parameters[0].isNamePresent()) {
+            for (Parameter parameter : parameters) {
+                paramNames.add(parameter.getName());
+            }
+            return paramNames;
+        }
+        final String[] names = DiscovererHolder.DISCOVERER.getParameterNames(method);
+        for (int index = 0; index < parameters.length; index++) {
+            paramNames.add(names != null ? names[index] : "arg" + index);
+        }
+        return paramNames;
+    }
+
+    /*
+     * 参数名工具，Spring的参数名工具需要读取类文件，首次需要时才加载
+     */
+    private static final class DiscovererHolder {
+        private static final DefaultParameterNameDiscoverer DISCOVERER = new DefaultParameterNameDiscoverer();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.handler.ListConverter;
+
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import cn.hutool.core.bean.BeanUtil;
+import lombok.Getter;
+
+/**
+ * 方法签名的结构检查
+ * 如@BeanParam接收的类型是否是标准的JavaBean、@BasicParam索引或名称是否重复，结构错误只与方法签名有关，编译校验计划时只检查一次
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:58
+ */
+final class SignatureVerifier {
+    // 方法签名的第一个结构错误，无错误时为null
+    @Getter
+    private final String error;
+
+    /**
+     * 构造方法，检查方法签名的结构
+     *
+     * @param parameters 方法参数
+     * @param paramNames 参数名
+     */
+    SignatureVerifier(Parameter[] parameters, List<String> paramNames) {
+        this.error = checkStructure(parameters, paramNames);
+    }
+
+    /**
+     * 校验方法签名的结构，每次调用只需判断编译时的检查结果
+     *
+     * @throws IllegalArgumentException 方法签名的结构错误
+     */
+    void verify() {
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+
+    /*
+     * 检查方法签名的结构，返回第一个结构错误
+     */
+    private static String checkStructure(Parameter[] parameters, List<String> paramNames) {
+        final Map<Integer, String> basicParamIndexes = new HashMap<>();
+        final Map<String, String> basicParamNames = new HashMap<>();
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            final String paramName = paramNames.get(index);
+            final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+            if (basicParam != null) {
+                // 配置了name时可以不配置位置
+                if (basicParam.index() < 0 && basicParam.name().isEmpty()) {
+                    return "The index of parameter \"" + paramName + "\" must not be negative.";
+                }
+                final String existing = basicParam.index() < 0 ? null
+                    : basicParamIndexes.putIfAbsent(basicParam.index(), paramName);
+                if (existing != null) {
+                    return String.format(Locale.ROOT, "Parameters \"%s\" and \"%s\" have the same index %d.",
+                        existing, paramName, basicParam.index());
+                }
+                final String existingName = basicParam.name().isEmpty() ? null
+                    : basicParamNames.putIfAbsent(basicParam.name(), paramName);
+                if (existingName != null) {
+                    return String.format(Locale.ROOT, "Parameters \"%s\" and \"%s\" have the same name \"%s\".",
+                        existingName, paramName, basicParam.name());
+                }
+            }
+            final JsonParam jsonParam = parameter.getAnnotation(JsonParam.class);
+            if (jsonParam != null && jsonParam.index() < 0 && jsonParam.name().isEmpty()) {
+                return "The index of parameter \"" + paramName + "\" must not be negative.";
+            }
+            // @ListParam接收的类型及元素上的约束是否支持
+            if (parameter.isAnnotationPresent(ListParam.class)) {
+                final String listError = ListConverter.of(parameter).getStructureError(paramName);
+                if (listError != null) {
+                    return listError;
+                }
+            }
+            // 只有@JsonParam、@BeanParam可以延迟转换，@BasicParam优先于它们处理参数
+            if (Lazy.isLazy(parameter) && (basicParam != null || (jsonParam == null && !parameter.isAnnotationPresent(
+                BeanParam.class)))) {
+                return "Parameter \"" + paramName + "\" can only be Lazy when received by @JsonParam or @BeanParam.";
+            }
+            // 参数类型是否是标准的JavaBean
+            if (parameter.isAnnotationPresent(BeanParam.class) && !BeanUtil.isBean(Lazy.getValueType(parameter))) {
+                return "The type of parameter \"" + paramName + "\" is not a standard Javabeans";
+            }
+        }
+        return null;
+    }
+}
@@ -21,15 +21,15 @@ import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cn.hutool.core.util.ClassUtil;
-import cn.hutool.core.util.ReflectUtil;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -40,6 +40,10 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class Validation {
+    // 校验处理器类型与校验注解的缓存
+    private static final Map<Class<?>, Optional<Class<? extends Annotation>>> VALID_ANNOTATIONS
+        = new ConcurrentHashMap<>();
+
     // 参数校验数据元
     private final ValidationMetadata metadata;
 
@@ -49,18 +53,29 @@ public class Validation {
     // 参数校验实体
     private final List<ArgumentValidatorHandler<? extends Annotation>> argumentValidators;
 
+    // 是否在转换参数前执行校验计划中的入参结构检查
+    private final boolean argumentsChecked;
+
+    // 是否只有默认的校验实体，只有默认的校验实体时延迟转换的参数使用校验计划中的默认的校验处理器推迟转换
+    private final boolean defaultsOnly;
+
     /**
      * 构造器。包内访问，不允许外部创建
      *
      * @param metadata 参数校验数据元
      * @param methodValidators 方法校验实体
      * @param argumentValidators 参数校验实体
+     * @param argumentsChecked 是否在转换参数前执行校验计划中的入参结构检查
+     * @param defaultsOnly 是否只有默认的校验实体
      */
     Validation(ValidationMetadata metadata, List<MethodValidatorHandler<? extends Annotation>> methodValidators,
-        List<ArgumentValidatorHandler<? extends Annotation>> argumentValidators) {
+        List<ArgumentValidatorHandler<? extends Annotation>> argumentValidators, boolean argumentsChecked,
+        boolean defaultsOnly) {
         this.metadata = metadata;
         this.methodValidators = methodValidators;
         this.argumentValidators = argumentValidators;
+        this.argumentsChecked = argumentsChecked;
+        this.defaultsOnly = defaultsOnly;
     }
 
     /**
@@ -73,57 +88,134 @@ public class Validation {
         if (methodValidators.size() == 0 && argumentValidators.size() == 0) {
             return ValidationResult.success();
         }
-        List<Object> paramValues = new ArrayList<>(); // 功能接口参数列表值
+        return validate(metadata, this);
+    }
+
+    /**
+     * 使用默认的校验处理器校验，与ValidationBuilder.builder(metadata).addDefaultValidators().build().validate()一致。
+     * 校验处理器在校验计划中按注解初始化一次，每次校验不再创建ValidationBuilder、校验处理器以及Validation
+     *
+     * @param metadata 参数校验数据元
+     * @return 校验结果
+     */
+    public static ValidationResult validateDefaults(ValidationMetadata metadata) {
+        return validate(metadata, null);
+    }
+
+    /*
+     * validation为null时使用校验计划中的默认的校验处理器
+     */
+    private static ValidationResult validate(ValidationMetadata metadata, Validation validation) {
+        final ValidationPlan plan = metadata.getPlan();
+        final Object[] paramValues = new Object[plan.getParameterCount()]; // 功能接口参数列表值
+        final ValidationContext context = ValidationContext.current();
         try {
+            // 方法签名的结构错误，只在编译校验计划时检查一次
+            plan.verify();
+            // 所有参数的结构检查先于自定义校验处理器及参数转换，结构错误的入参不会先执行自定义校验、解析json、绑定JavaBean
+            if (validation == null || validation.argumentsChecked) {
+                plan.checkArguments(metadata.getParamValues());
+            }
             // 校验方法实体
-            methodValidate();
+            methodValidate(context, metadata, validation);
             // 校验参数实体
-            for (int index = 0; index < metadata.getRunMethod().getParameters().length; index++) {
-                // 执行校验实体校验参数
-                paramValues.add(argumentValidate(index));
+            for (int index = 0; index < paramValues.length; index++) {
+                // 执行校验实体校验参数，延迟转换的参数在功能接口第一次读取时校验
+                if (!plan.isLazy(index)) {
+                    paramValues[index] = argumentValidate(context, metadata, validation, index);
+                } else if (validation == null || validation.defaultsOnly) {
+                    paramValues[index] = lazyArgumentValidate(plan, index, metadata.getParamValues());
+                } else {
+                    // 添加的校验实体在一次校验中按参数重新初始化，不能推迟到功能接口读取时使用，立即转换
+                    paramValues[index] = Lazy.value(argumentValidate(context, metadata, validation, index));
+                }
             }
         } catch (Exception exception) {
             log.error(exception.getMessage(), exception);
             return ValidationResult.failed().setErrorMessage(exception.getMessage());
         }
         // 返回校验结果
-        return ValidationResult.success().setParamValues(paramValues.toArray());
+        return ValidationResult.success(paramValues);
     }
 
-    private void methodValidate() throws Exception {
-        for (MethodValidatorHandler<? extends Annotation> validator : methodValidators) {
+    private static void methodValidate(ValidationContext context, ValidationMetadata metadata, Validation validation)
+        throws Exception {
+        // 默认的校验处理器已按方法上的注解初始化
+        final MethodValidatorHandler<?>[] defaults = validation == null
+            ? metadata.getPlan().getDefaultValidators().getMethodValidators() : null;
+        final int count = defaults != null ? defaults.length : validation.methodValidators.size();
+        for (int index = 0; index < count; index++) {
+            final MethodValidatorHandler<?> validator = defaults != null ? defaults[index]
+                : validation.methodValidators.get(index);
             // 1、调用初始化方法
-            if (!invokeInitializable(validator, metadata.getRunMethod())) {
+            if (defaults == null && !invokeInitializable(validator, metadata.getRunMethod())) {
                 // 方法或方法参数上不包含此校验处理器的校验注解，则跳过此校验处理器
                 continue;
             }
             // 2、调用处理器处理方法，这里使用校验链的目的是因为一个方法可能被多个校验处理器处理，多个校验处理器处理的时候返回的是最后一个处理器处理的结果，除非处理器自身调用校验链的拦截方法
-            final ValidationChain chain = new ValidationChain();
-            validator.handle(metadata, chain);
-            // 处理完成后判断校验链是否不执行下一个校验处理器，不执行则退出校验，后面的校验处理器则不会执行
-            if (!chain.doNext()) {
-                break;
+            final ValidationChain chain = context.acquireChain();
+            try {
+                validator.handle(metadata, chain);
+                // 处理完成后判断校验链是否不执行下一个校验处理器，不执行则退出校验，后面的校验处理器则不会执行
+                if (!chain.doNext()) {
+                    break;
+                }
+            } finally {
+                context.releaseChain(chain);
             }
         }
     }
 
-    private Object argumentValidate(int index) throws Exception {
-        final Parameter parameter = metadata.getRunMethod().getParameters()[index];
-        final String paramName = metadata.getParamNames().get(index);
+    /*
+     * 延迟转换的参数只保留其读取的参数值的快照，不持有输入的参数及校验对象；
+     * 延迟转换的参数只能由@JsonParam、@BeanParam接收，转换时使用校验计划中已初始化的校验处理器，不同线程转换不会相互影响
+     */
+    private static Lazy<Object> lazyArgumentValidate(ValidationPlan plan, int index, List<String> paramValues) {
+        final ValidationMetadata snapshot = plan.snapshot(index, paramValues);
+        return Lazy.of(() -> {
+            final ArgumentValidatorHandler<?> validator = plan.getDefaultValidators().getArgumentValidators(index)[0];
+            final ValidationContext context = ValidationContext.current();
+            final ValidationChain chain = context.acquireChain();
+            try {
+                return validator.handle(snapshot, chain, plan.getElement(index));
+            } catch (Exception exception) {
+                log.error(exception.getMessage(), exception);
+                throw exception;
+            } finally {
+                context.releaseChain(chain);
+            }
+        });
+    }
+
+    private static Object argumentValidate(ValidationContext context, ValidationMetadata metadata,
+        Validation validation, int index) throws Exception {
+        final ValidationPlan plan = metadata.getPlan();
+        final Parameter parameter = plan.getParameter(index);
+        // 方法参数的元数据在校验计划中创建一次
+        final ElementMetadata element = plan.getElement(index);
+        // 默认的校验处理器已按参数上的注解初始化
+        final ArgumentValidatorHandler<?>[] defaults = validation == null
+            ? plan.getDefaultValidators().getArgumentValidators(index) : null;
+        final int count = defaults != null ? defaults.length : validation.argumentValidators.size();
         Object paramValue = null; // 参数真实类型的值
-        for (ArgumentValidatorHandler<? extends Annotation> validator : argumentValidators) {
+        for (int validatorIndex = 0; validatorIndex < count; validatorIndex++) {
+            final ArgumentValidatorHandler<?> validator = defaults != null ? defaults[validatorIndex]
+                : validation.argumentValidators.get(validatorIndex);
             // 1、调用初始化方法
-            if (!invokeInitializable(validator, parameter)) {
+            if (defaults == null && !invokeInitializable(validator, parameter)) {
                 // 方法或方法参数上不包含此校验处理器的校验注解，则跳过此校验处理器
                 continue;
             }
             // 2、调用处理器处理方法，这里使用校验链的目的是因为一个参数可能被多个校验处理器处理，多个校验处理器处理的时候返回的是最后一个处理器处理的结果，除非处理器自身调用校验链的拦截方法
-            final ValidationChain chain = new ValidationChain();
-            final ElementMetadata element = new ElementMetadata(parameter, index, paramName); // 默认传入的是方法参数的元数据
-            paramValue = validator.handle(metadata, chain, element);
-            // 处理完成后判断校验链是否不执行下一个校验处理器，不执行则直接返回参数真实类型的参数值
-            if (!chain.doNext()) {
-                return paramValue;
+            final ValidationChain chain = context.acquireChain();
+            try {
+                paramValue = validator.handle(metadata, chain, element);
+                // 处理完成后判断校验链是否不执行下一个校验处理器，不执行则直接返回参数真实类型的参数值
+                if (!chain.doNext()) {
+                    return paramValue;
+                }
+            } finally {
+                context.releaseChain(chain);
             }
         }
         // 若上面没有任何一个校验处理器拦截的话，这里返回最后一个校验处理器处理的结果
@@ -141,35 +233,40 @@ public class Validation {
      * @param annotatedElement 方法或参数
      * @return 方法或方法参数上是否包含此校验处理器的校验注解
      */
-    private boolean invokeInitializable(Initializable<?> validator, AnnotatedElement annotatedElement) {
-        // 1、获取校验处理器接口泛型，即校验注解
+    private static boolean invokeInitializable(Initializable<?> validator, AnnotatedElement annotatedElement) {
+        // 1、获取校验处理器接口泛型，即校验注解，每个校验处理器类型只解析一次
+        final Class<? extends Annotation> validAnnotationClass = VALID_ANNOTATIONS.computeIfAbsent(
+            validator.getClass(), Validation::resolveValidAnnotation).orElse(null);
+        // 若方法或方法参数上没有此校验处理器的校验注解，则跳过此校验处理器
+        if (validAnnotationClass == null) {
+            return false;
+        }
+        final Annotation annotation = annotatedElement.getAnnotation(validAnnotationClass);
+        if (annotation == null) {
+            return false;
+        }
+        // 2、调用校验处理器的初始化方法
+        // 校验注解就是校验处理器接口泛型，泛型擦除后直接通过接口调用即可
+        @SuppressWarnings("unchecked")
+        final Initializable<Annotation> initializable = (Initializable<Annotation>) validator;
+        initializable.initialize(annotation);
+        return true;
+    }
+
+    private static Optional<Class<? extends Annotation>> resolveValidAnnotation(Class<?> validatorClass) {
         // 获取校验处理器实现的接口
-        final Type[] genericInterfaces = validator.getClass().getGenericInterfaces();
+        final Type[] genericInterfaces = validatorClass.getGenericInterfaces();
         // 校验处理器实现的接口中就一个接口是ArgumentValidatorHandler
-        Class<? extends Annotation> validAnnotationClass = null; // 校验注解
         for (Type genericInterface : genericInterfaces) {
             if (genericInterface instanceof ParameterizedType) {
                 // 获取校验处理器实现的接口
                 final Type[] arguments = ((ParameterizedType) genericInterface).getActualTypeArguments();
                 // 因为校验处理器接口泛型列表就只有一个，所以直接返回
                 if (arguments.length == 1 && ((Class<?>) arguments[0]).isAnnotation()) {
-                    //noinspection unchecked
-                    validAnnotationClass = (Class<? extends Annotation>) arguments[0];
-                    break;
+                    return Optional.of(((Class<?>) arguments[0]).asSubclass(Annotation.class));
                 }
             }
         }
-        // 若方法或方法参数上没有此校验处理器的校验注解，则跳过此校验处理器
-        if (validAnnotationClass == null || !annotatedElement.isAnnotationPresent(validAnnotationClass)) {
-            return false;
-        }
-        // 2、调用校验处理器的初始化方法
-        // 若方法或方法参数上有此校验处理器的校验注解，则调用校验注解处理器的实现
-        // 则调用校验处理器的初始化方法，不直接使用validator.initialize()调用的原因是因为Java有泛型擦除，语法检查上不支持
-        final Method initializeMethod = ReflectUtil.getMethodByName(validator.getClass(), "initialize");
-        if (initializeMethod != null) {
-            ReflectUtil.invoke(validator, initializeMethod, annotatedElement.getAnnotation(validAnnotationClass));
-        }
-        return true;
+        return Optional.empty();
     }
 }
@@ -16,6 +16,12 @@
 
 package com.cxxwl96.hiatstudio.validate;
 
+import com.cxxwl96.hiatstudio.validate.handler.BasicParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.BeanParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.JsonParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ListParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ParamValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ReturnDataHandler;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
 
 import java.lang.annotation.Annotation;
@@ -41,6 +47,12 @@ public class ValidationBuilder {
     // 参数校验实体
     private final List<ArgumentValidatorHandler<? extends Annotation>> argumentValidators = new ArrayList<>();
 
+    // 是否在转换参数前执行校验计划中的入参结构检查，结构检查与默认的校验处理器一致，只在添加默认的校验实体时开启
+    private boolean argumentsChecked;
+
+    // 是否只添加了默认的校验实体，只有默认的校验实体时延迟转换的参数才能推迟到功能接口读取时转换
+    private boolean defaultsOnly;
+
     /**
      * 构造器。包内访问，不允许外部创建
      *
@@ -72,6 +84,7 @@ public class ValidationBuilder {
         // 传入的validator不允许为null
         Assert.notNull(validator, "validator cannot be null.");
         methodValidators.add(validator);
+        defaultsOnly = false;
         return this;
     }
 
@@ -85,6 +98,25 @@ public class ValidationBuilder {
         // 传入的validator不允许为null
         Assert.notNull(validator, "validator cannot be null.");
         argumentValidators.add(validator);
+        defaultsOnly = false;
+        return this;
+    }
+
+    /**
+     * 添加默认的校验实体：@ParamValidator、@BasicParam、@JsonParam、@BeanParam、@ListParam、@ReturnData注解校验处理器
+     *
+     * @return ValidationBuilder
+     */
+    public ValidationBuilder addDefaultValidators() {
+        final boolean empty = methodValidators.isEmpty() && argumentValidators.isEmpty();
+        argumentsChecked = true;
+        addMethodValidator(new ParamValidatorHandler())
+            .addArgumentValidator(new BasicParamHandler())
+            .addArgumentValidator(new JsonParamHandler())
+            .addArgumentValidator(new BeanParamHandler())
+            .addArgumentValidator(new ListParamHandler())
+            .addArgumentValidator(new ReturnDataHandler());
+        defaultsOnly = empty;
         return this;
     }
 
@@ -94,6 +126,6 @@ public class ValidationBuilder {
      * @return 参数校验实现逻辑
      */
     public Validation build() {
-        return new Validation(metadata, methodValidators, argumentValidators);
+        return new Validation(metadata, methodValidators, argumentValidators, argumentsChecked, defaultsOnly);
     }
 }
@@ -42,4 +42,11 @@ public class ValidationChain {
         return doNext;
     }
 
+    /**
+     * 重置为执行下一个校验处理器，用于复用校验链
+     */
+    void reset() {
+        doNext = true;
+    }
+
 }
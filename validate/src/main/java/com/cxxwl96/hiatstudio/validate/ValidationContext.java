@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import java.util.Arrays;
+
+/**
+ * 校验上下文
+ * 每个线程一个，复用校验过程中的临时对象（校验链），稳定状态下的校验除了转换后的参数值及参数列表外不再分配对象。
+ * 校验链按嵌套深度复用（如@BeanParam字段上的@JsonParam、自定义校验处理器中再次调用功能接口），获取与归还需要成对且后进先出
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:40
+ */
+public final class ValidationContext {
+    private static final ThreadLocal<ValidationContext> CONTEXTS = ThreadLocal.withInitial(ValidationContext::new);
+
+    // 可复用的校验链，按嵌套深度排列
+    private ValidationChain[] chains = new ValidationChain[2];
+
+    // 正在使用的校验链个数
+    private int depth;
+
+    private ValidationContext() {
+    }
+
+    /**
+     * 获取当前线程的校验上下文
+     *
+     * @return 校验上下文
+     */
+    public static ValidationContext current() {
+        return CONTEXTS.get();
+    }
+
+    /**
+     * 获取校验链，使用完毕后需要调用releaseChain()归还
+     *
+     * @return 重置后的校验链
+     */
+    public ValidationChain acquireChain() {
+        if (depth == chains.length) {
+            chains = Arrays.copyOf(chains, depth * 2);
+        }
+        ValidationChain chain = chains[depth];
+        if (chain == null) {
+            chain = new ValidationChain();
+            chains[depth] = chain;
+        }
+        depth++;
+        chain.reset();
+        return chain;
+    }
+
+    /**
+     * 归还校验链
+     *
+     * @param acquired 通过acquireChain()获取的校验链
+     */
+    public void releaseChain(ValidationChain acquired) {
+        if (depth > 0 && chains[depth - 1] == acquired) {
+            depth--;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate;
+
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.DeterministicValidator;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.annotations.ReturnData;
+import com.cxxwl96.hiatstudio.validate.metadata.ConstraintIndex;
+import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.hutool.core.util.ClassUtil;
+import lombok.Getter;
+
+/**
+ * 校验计划
+ * 每个方法只编译一次并缓存，记录方法参数名、每个方法参数是否需要校验约束等只与方法签名相关的信息。
+ * 方法签名的结构检查（如@BeanParam接收的类型是否是标准的JavaBean、@BasicParam索引是否重复）也只在编译时做一次，
+ * 按名称接收的参数名也只在编译时分配槽位。
+ * 参数个数、索引越界、字符串参数的非空等开销很小的结构检查在编译时整理为一组检查，在转换任何参数之前先对所有参数执行，
+ * 结构错误的入参不会先解析json、绑定JavaBean。
+ * 参数名的获取、方法签名的结构检查、参数名槽位表的构建以及入参结构检查的编译分别由ParameterNames、SignatureVerifier、
+ * NameTableBuilder、ArgumentChecks完成
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 14:30
+ */
+public final class ValidationPlan implements Constraintable {
+    // 校验计划缓存
+    private static final Map<Method, ValidationPlan> PLANS = new ConcurrentHashMap<>();
+
+    // 方法
+    @Getter
+    private final Method method;
+
+    // 是否是功能接口（被@FunctionInterface标注）
+    @Getter
+    private final boolean function;
+
+    // 方法参数
+    private final Parameter[] parameters;
+
+    // 参数名
+    @Getter
+    private final List<String> paramNames;
+
+    // 方法参数的元数据，校验处理器处理方法参数时复用
+    private final ElementMetadata[] elements;
+
+    // 方法参数是否需要校验方法参数上的约束注解
+    private final boolean[] constrained;
+
+    // 方法参数的值是否需要校验其类型上的约束（@BeanParam、@JsonParam接收的标准的类）
+    private final boolean[] cascaded;
+
+    // 方法参数是否是延迟转换的参数（Lazy<T>）
+    private final boolean[] lazy;
+
+    // 参数名槽位表，命名参数源按名称接收参数时使用
+    @Getter
+    private final ParamNameTable nameTable;
+
+    // 校验结果是否可以被校验结果缓存复用
+    @Getter
+    private final boolean cacheable;
+
+    // 方法签名的结构检查
+    private final SignatureVerifier signatureVerifier;
+
+    // 入参的结构检查，方法签名存在结构错误时为null
+    private final ArgumentChecks argumentChecks;
+
+    // 默认的校验处理器，方法签名存在结构错误时为null
+    @Getter
+    private final DefaultValidators defaultValidators;
+
+    private ValidationPlan(Method method) {
+        this.method = method;
+        this.function = method.isAnnotationPresent(FunctionInterface.class);
+        this.parameters = method.getParameters();
+        this.paramNames = Collections.unmodifiableList(ParameterNames.discover(method));
+        this.elements = new ElementMetadata[parameters.length];
+        this.constrained = new boolean[parameters.length];
+        this.cascaded = new boolean[parameters.length];
+        this.lazy = new boolean[parameters.length];
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            elements[index] = new ElementMetadata(parameter, index, paramNames.get(index));
+            // @BasicParam(require = false)不做校验
+            final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+            constrained[index] = (basicParam == null || basicParam.require()) && ConstraintIndex.isConstrained(parameter);
+            cascaded[index] = parameter.isAnnotationPresent(BeanParam.class) || (parameter.isAnnotationPresent(
+                JsonParam.class) && ClassUtil.isNormalClass(Lazy.getValueType(parameter)));
+            lazy[index] = Lazy.isLazy(parameter);
+        }
+        this.nameTable = NameTableBuilder.build(parameters);
+        this.cacheable = checkCacheable();
+        this.signatureVerifier = new SignatureVerifier(parameters, paramNames);
+        final boolean verified = signatureVerifier.getError() == null;
+        this.argumentChecks = verified ? new ArgumentChecks(method, parameters, paramNames, nameTable) : null;
+        this.defaultValidators = verified ? new DefaultValidators(method, parameters) : null;
+    }
+
+    /**
+     * 获取方法的校验计划，首次获取时编译并缓存
+     *
+     * @param method 方法
+     * @return 校验计划
+     */
+    public static ValidationPlan of(Method method) {
+        return PLANS.computeIfAbsent(method, ValidationPlan::new);
+    }
+
+    /**
+     * 获取类中声明的方法的校验计划，供编译期生成的绑定器使用
+     *
+     * @param clazz 声明方法的类
+     * @param methodName 方法名
+     * @param parameterTypes 方法参数类型
+     * @return 校验计划
+     * @throws IllegalArgumentException 方法不存在
+     */
+    public static ValidationPlan of(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+        try {
+            return of(clazz.getDeclaredMethod(methodName, parameterTypes));
+        } catch (NoSuchMethodException exception) {
+            throw new IllegalArgumentException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * 校验方法签名的结构，结构错误只与方法签名有关，每次调用只需判断编译时的检查结果
+     *
+     * @throws IllegalArgumentException 方法签名的结构错误
+     */
+    public void verify() {
+        signatureVerifier.verify();
+    }
+
+    /**
+     * 对所有参数执行入参的结构检查：@ParamValidator的参数个数（优先于其他检查），@BasicParam、@JsonParam以及@BeanParam字段的索引是否越界，
+     * @BeanParam、@ListParam的参数个数，必填的字符串@BasicParam上的@NotNull、@NotEmpty、@NotBlank。
+     * 与默认的校验处理器的检查一致，只是提前到自定义校验处理器及参数转换之前执行；入参不是RandomAccess（如按行读取的参数源）时获取个数的开销不确定，不做提前检查
+     *
+     * @param paramValues 输入的参数值
+     * @throws IllegalArgumentException 入参的结构错误
+     */
+    public void checkArguments(List<String> paramValues) {
+        if (argumentChecks != null && paramValues instanceof RandomAccess) {
+            argumentChecks.check(paramValues);
+        }
+    }
+
+    /**
+     * 获取方法参数个数
+     *
+     * @return 方法参数个数
+     */
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * 获取方法参数，不会像Method.getParameters()一样每次复制数组
+     *
+     * @param index 方法参数索引
+     * @return 方法参数
+     */
+    public Parameter getParameter(int index) {
+        return parameters[index];
+    }
+
+    /**
+     * 获取方法参数的元数据
+     *
+     * @param index 方法参数索引
+     * @return 方法参数的元数据
+     */
+    public ElementMetadata getElement(int index) {
+        return elements[index];
+    }
+
+    /**
+     * 方法参数的值是否需要校验其类型上的约束
+     *
+     * @param index 方法参数索引
+     * @return 是否需要校验
+     */
+    public boolean isCascaded(int index) {
+        return cascaded[index];
+    }
+
+    /**
+     * 方法参数是否是延迟转换的参数
+     *
+     * @param index 方法参数索引
+     * @return 是否是延迟转换的参数
+     */
+    public boolean isLazy(int index) {
+        return lazy[index];
+    }
+
+    /**
+     * 创建延迟转换的参数的校验元数据，只保留参数读取的参数值的快照（位置与@JsonParam、@BeanParam的校验处理器一致），
+     * 延迟转换时不必持有输入的参数
+     *
+     * @param index 方法参数索引
+     * @param paramValues 输入的参数值
+     * @return 校验元数据
+     * @throws IllegalArgumentException 命名参数源中不存在需要的参数名
+     */
+    public ValidationMetadata snapshot(int index, List<String> paramValues) {
+        final int[] slots = argumentChecks.resolveLazySlots(index, paramValues);
+        return new ValidationMetadata(method, ParamSource.snapshot(paramValues, slots), Collections.emptyList());
+    }
+
+    /**
+     * 校验已经转换为真实类型的方法参数值，用于直接调用方法（如代理）时的校验
+     *
+     * @param args 方法参数值
+     * @throws Exception 参数校验失败异常
+     */
+    public void validateArguments(Object[] args) throws Exception {
+        for (int index = 0; index < parameters.length; index++) {
+            // 直接调用时传入的延迟转换的参数值在此时转换
+            final Object arg = lazy[index] && args[index] != null ? ((Lazy<?>) args[index]).get() : args[index];
+            // 校验方法参数上的hibernate-validator的校验注解
+            if (constrained[index]) {
+                constraintHibernateValidateAnnotations(parameters[index], paramNames.get(index), arg);
+            }
+            // 校验参数值类型上的约束
+            if (cascaded[index] && arg != null) {
+                constraintHibernateValidate(arg);
+            }
+        }
+    }
+
+    /*
+     * 校验结果只由入参决定时才可以缓存：没有被@ReturnData标注的参数，自定义校验处理器全部标注了@DeterministicValidator
+     */
+    private boolean checkCacheable() {
+        for (Parameter parameter : parameters) {
+            if (parameter.isAnnotationPresent(ReturnData.class)) {
+                return false;
+            }
+        }
+        final ParamValidator paramValidator = method.getAnnotation(ParamValidator.class);
+        if (paramValidator != null) {
+            for (Class<? extends CustomValidatorHandler> handlerClass : paramValidator.customValidatorHandler()) {
+                if (!handlerClass.isAnnotationPresent(DeterministicValidator.class)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
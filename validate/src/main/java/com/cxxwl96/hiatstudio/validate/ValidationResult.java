@@ -46,6 +46,16 @@ public class ValidationResult {
         return new ValidationResult().setSuccess(true).setParamValues(new Object[] {});
     }
 
+    /**
+     * 校验成功
+     *
+     * @param paramValues 参数列表的值
+     * @return 校验结果
+     */
+    public static ValidationResult success(Object[] paramValues) {
+        return new ValidationResult().setSuccess(true).setParamValues(paramValues);
+    }
+
     /**
      * 默认失败
      *
@@ -34,8 +34,11 @@ import java.lang.annotation.Target;
 @Target( {ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface BasicParam {
-    // 需要接收参数的位置。即接收第几个参数，索引从0开始
-    int index();
+    // 需要接收参数的位置。即接收第几个参数，索引从0开始。配置了name时可以不配置位置，此时只能按名称接收
+    int index() default -1;
+
+    // 需要接收参数的名称。输入的参数是命名参数源（NamedParamSource）时按名称接收，否则按位置接收
+    String name() default "";
 
     // 是否必填参数。如果设置为false，则不管该参数前是否有校验的注解，都不作校验。
     // 例如：@BasicParam(index = 0, required = false) @NotEmpty String name
@@ -27,6 +27,8 @@ import java.lang.annotation.Target;
  * 标准的javaBean需要满足以下其一标准：
  * 1、存在只有一个参数的setXXX方法
  * 2、存在非static的public类型字段
+ * 输入的参数是命名参数源（NamedParamSource）时，未标注@JsonParam的字段按字段名接收
+ * 参数类型为Lazy&lt;T&gt;时延迟到功能接口第一次读取时创建并校验JavaBean
  *
  * @author cxxwl96
  * @since 2023/3/3 18:02
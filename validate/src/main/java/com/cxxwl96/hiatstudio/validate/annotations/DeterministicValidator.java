@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 确定性的自定义校验处理器。
+ * 标注此注解的自定义校验处理器对相同的入参总是得到相同的校验结果，且没有副作用（如读取时间、计数、访问外部系统）。
+ * 功能接口的自定义校验处理器全部标注此注解时，校验结果才会被校验结果缓存复用
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+@Documented
+@Target( {ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeterministicValidator {
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 相互独立的自定义校验处理器。
+ * 在@ParamValidator(customValidatorHandler = {...})中相邻的、标注了此注解的自定义校验处理器将在线程池中并发执行，
+ * 校验结果仍按声明顺序处理：排在前面的校验处理器失败或拦截校验链时，排在后面的校验处理器将被取消。
+ * 标注此注解的自定义校验处理器不能依赖其他自定义校验处理器的执行顺序
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 13:40
+ */
+@Documented
+@Target( {ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IndependentValidator {
+}
@@ -24,6 +24,7 @@ import java.lang.annotation.Target;
 
 /**
  * 接收JSON字符串对应的类型
+ * 方法参数的类型为Lazy&lt;T&gt;时延迟到功能接口第一次读取时解析并校验
  *
  * @author cxxwl96
  * @since 2023/3/12 11:34
@@ -32,8 +33,11 @@ import java.lang.annotation.Target;
 @Target( {ElementType.PARAMETER, ElementType.FIELD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface JsonParam {
-    // 需要接收参数的位置。即接收第几个参数，索引从0开始
-    int index();
+    // 需要接收参数的位置。即接收第几个参数，索引从0开始。配置了name时可以不配置位置，此时只能按名称接收
+    int index() default -1;
+
+    // 需要接收参数的名称。输入的参数是命名参数源（NamedParamSource）时按名称接收，否则按位置接收
+    String name() default "";
 
     // 通过jsonPath接收指定的JSON结构
     String jsonPath() default "";
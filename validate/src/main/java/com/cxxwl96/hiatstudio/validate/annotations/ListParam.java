@@ -24,6 +24,9 @@ import java.lang.annotation.Target;
 
 /**
  * 接收List<String>
+ * 输入的参数是按行读取的参数源（LineSource）时，也可以通过Iterable&lt;String&gt;、Iterator&lt;String&gt;、Stream&lt;String&gt;流式接收。
+ * 也可以按参数声明的类型接收：int[]、long[]、double[]、List&lt;Integer&gt;、枚举等简单类型的列表以及Bean的列表（每个参数是一个JSON），
+ * 元素上的约束（如List&lt;@Min(0) Integer&gt;）在转换时校验
  *
  * @author cxxwl96
  * @since 2023/3/3 18:02
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 自定义校验处理器每个线程一个实例。
+ * 自定义校验处理器默认全局单例，非线程安全的自定义校验处理器可以标注此注解，每个线程各自创建并复用一个实例
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 13:05
+ */
+@Documented
+@Target( {ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadLocalHandler {
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 运行时编译的绑定器中单个方法参数的校验与绑定步骤
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:10
+ */
+@FunctionalInterface
+interface ArgumentBinder {
+    /**
+     * 校验并绑定方法参数
+     *
+     * @param paramValues 功能接口的参数
+     * @param returnData 通过@ReturnData注入的返回结果
+     * @param metadata 校验元数据，只有需要调用校验处理器的步骤才会创建
+     * @return 方法参数的值
+     * @throws Exception 参数校验失败异常
+     */
+    Object bind(List<String> paramValues, List<String> returnData, Supplier<ValidationMetadata> metadata)
+        throws Exception;
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import com.cxxwl96.hiatstudio.validate.ArgumentValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.ValidationContext;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.handler.ListConverter;
+import com.cxxwl96.hiatstudio.validate.handler.ParamValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+import cn.hutool.core.util.ClassUtil;
+
+/**
+ * 编译期生成的功能接口绑定器使用的工具方法，错误消息与对应的校验处理器保持一致
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 16:30
+ */
+public final class BinderSupport {
+    // 借用校验处理器接口中的类型转换与约束方法
+    private static final ArgumentValidatorHandler<?> SUPPORT = (metadata, chain, element) -> null;
+
+    private BinderSupport() {
+    }
+
+    /**
+     * 按索引获取输入的参数，参数取值越界则校验失败
+     *
+     * @param paramName 参数名
+     * @param index 参数索引
+     * @param paramValues 输入的参数值
+     * @return 输入的参数
+     */
+    public static String get(String paramName, int index, List<String> paramValues) {
+        SUPPORT.constraintIndexOutOfRange(paramName, index, paramValues.size());
+        return paramValues.get(index);
+    }
+
+    /**
+     * 参数值类型转换
+     *
+     * @param paramName 参数名
+     * @param paramValue 参数值
+     * @param paramTypeClass 需要转换的参数类型
+     * @return 转换之后的对象
+     */
+    public static Object cast(String paramName, Object paramValue, Class<?> paramTypeClass) {
+        return SUPPORT.typeCast(paramName, paramValue, paramTypeClass);
+    }
+
+    /**
+     * 获取参数值的位置，输入的参数是命名参数源并且配置了参数名时按名称查找
+     *
+     * @param paramName 参数名
+     * @param paramValues 输入的参数值
+     * @param nameTable 参数名槽位表
+     * @param name 需要接收参数的名称
+     * @param index 需要接收参数的位置
+     * @return 参数值的位置
+     */
+    public static int indexOf(String paramName, List<String> paramValues, ParamNameTable nameTable, String name,
+        int index) {
+        return SUPPORT.indexOf(paramName, paramValues, nameTable, name, index);
+    }
+
+    /**
+     * 按索引获取输入的参数并进行类型转换，参数取值越界则校验失败
+     *
+     * @param paramName 参数名
+     * @param paramValues 输入的参数值
+     * @param index 参数索引
+     * @param paramTypeClass 需要转换的参数类型
+     * @return 转换之后的对象
+     */
+    public static Object cast(String paramName, List<String> paramValues, int index, Class<?> paramTypeClass) {
+        SUPPORT.constraintIndexOutOfRange(paramName, index, paramValues.size());
+        return SUPPORT.typeCast(paramName, paramValues, index, paramTypeClass);
+    }
+
+    /**
+     * 参数长度约束，仅配置了参数长度才进行校验
+     *
+     * @param expectedSize 期望的长度
+     * @param actualSize 实际长度
+     */
+    public static void checkSize(int expectedSize, int actualSize) {
+        SUPPORT.constraintSize(expectedSize, actualSize);
+    }
+
+    /**
+     * 直接使用输入的参数的列表参数（List、Iterable）的个数约束，只能读取一次的按行读取参数源复制为列表，在复制时校验个数
+     *
+     * @param expectedSize 期望的个数
+     * @param paramValues 输入的参数值
+     * @return 需要传递给功能接口的参数值
+     */
+    public static List<String> checkListSize(int expectedSize, List<String> paramValues) {
+        return ListConverter.materialize(SUPPORT.constraintListSize(expectedSize, paramValues));
+    }
+
+    /**
+     * 执行方法上@ParamValidator配置的校验，校验链从当前线程的校验上下文中获取
+     *
+     * @param handler 方法校验处理器
+     * @param size 需要校验的参数个数
+     * @param classes 自定义校验处理器
+     * @param paramValues 输入的参数值
+     * @throws Exception 参数校验失败异常
+     */
+    public static void handleParamValidator(ParamValidatorHandler handler, int size,
+        Class<? extends CustomValidatorHandler>[] classes, List<String> paramValues) throws Exception {
+        final ValidationContext context = ValidationContext.current();
+        final ValidationChain chain = context.acquireChain();
+        try {
+            handler.handle(size, classes, paramValues, chain);
+        } finally {
+            context.releaseChain(chain);
+        }
+    }
+
+    /**
+     * 使用快速校验器校验参数值
+     *
+     * @param evaluator 快速校验器
+     * @param paramName 参数名
+     * @param paramValue 参数值
+     */
+    public static void check(ConstraintEvaluator evaluator, String paramName, Object paramValue) {
+        if (!evaluator.isValid(paramValue)) {
+            throw new IllegalArgumentException(evaluator.getErrorMessage(paramName, paramValue));
+        }
+    }
+
+    /**
+     * 校验方法参数上的hibernate-validator的校验注解，用于运行时编译的绑定器
+     *
+     * @param parameter 方法参数
+     * @param paramName 参数名
+     * @param paramValue 参数值
+     * @throws InstantiationException 实例化异常
+     * @throws IllegalAccessException 非法访问异常
+     */
+    public static void checkConstraints(Parameter parameter, String paramName, Object paramValue)
+        throws InstantiationException, IllegalAccessException {
+        SUPPORT.constraintHibernateValidateAnnotations(parameter, paramName, paramValue);
+    }
+
+    /**
+     * 获取未被任何校验处理器处理的参数的默认值
+     *
+     * @param paramTypeClass 参数类型
+     * @return 参数类型的默认值
+     */
+    public static Object defaultValue(Class<?> paramTypeClass) {
+        return ClassUtil.getDefaultValue(paramTypeClass);
+    }
+}
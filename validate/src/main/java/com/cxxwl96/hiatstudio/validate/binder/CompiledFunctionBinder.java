@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.handler.ParamValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.proxy.MethodInvoker;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 运行时编译的绑定器
+ * 方法签名相关的判断（使用哪个校验处理器、参数名、参数类型等）都在编译时完成，每次调用只按顺序执行各个参数的绑定步骤
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:10
+ */
+final class CompiledFunctionBinder implements FunctionBinder {
+    private static final ParamValidatorHandler PARAM_VALIDATOR = new ParamValidatorHandler();
+
+    private final Method method;
+
+    // 方法上是否有@ParamValidator
+    private final boolean paramValidated;
+
+    // @ParamValidator配置的参数个数，注解的属性值在编译时读取一次，注解属性方法每次调用都会分配对象
+    private final int size;
+
+    // @ParamValidator配置的自定义校验处理器
+    private final Class<? extends CustomValidatorHandler>[] customValidatorHandlers;
+
+    // 校验计划，绑定参数前执行入参的结构检查
+    private final ValidationPlan plan;
+
+    private final ArgumentBinder[] argumentBinders;
+
+    // 是否有参数需要调用校验处理器，没有则不创建校验元数据
+    private final boolean metadataRequired;
+
+    private final MethodInvoker invoker;
+
+    CompiledFunctionBinder(Method method, ArgumentBinder[] argumentBinders, boolean metadataRequired) {
+        this.method = method;
+        final ParamValidator paramValidator = method.getAnnotation(ParamValidator.class);
+        this.paramValidated = paramValidator != null;
+        this.size = paramValidated ? paramValidator.size() : -1;
+        this.customValidatorHandlers = paramValidated ? paramValidator.customValidatorHandler() : null;
+        this.plan = ValidationPlan.of(method);
+        this.argumentBinders = argumentBinders;
+        this.metadataRequired = metadataRequired;
+        this.invoker = MethodInvoker.of(method);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Object[] bind(List<String> paramValues, List<String> returnData) throws Exception {
+        plan.checkArguments(paramValues);
+        if (paramValidated) {
+            BinderSupport.handleParamValidator(PARAM_VALIDATOR, size, customValidatorHandlers, paramValues);
+        }
+        final Object[] args = new Object[argumentBinders.length];
+        // 校验元数据只在需要调用校验处理器时创建一次
+        final Supplier<ValidationMetadata> metadata = !metadataRequired ? null : new Supplier<ValidationMetadata>() {
+            private ValidationMetadata instance;
+
+            @Override
+            public ValidationMetadata get() {
+                if (instance == null) {
+                    instance = new ValidationMetadata(method, paramValues, returnData);
+                }
+                return instance;
+            }
+        };
+        for (int index = 0; index < argumentBinders.length; index++) {
+            args[index] = argumentBinders[index].bind(paramValues, returnData, metadata);
+        }
+        return args;
+    }
+
+    @Override
+    public Object invoke(Object component, Object[] args) throws Throwable {
+        return invoker.invoke(component, args);
+    }
+}
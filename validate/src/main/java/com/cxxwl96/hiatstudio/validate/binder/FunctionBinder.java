@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import java.util.List;
+
+/**
+ * 功能接口绑定器
+ * 由ast模块的注解处理器在编译期为每个@FunctionInterface方法生成，按索引读取参数、转换类型、校验约束并直接调用方法，
+ * 运行时无需反射、字节码增强以及参数名解析。生成的类名规则见FunctionBinders.getBinderClassName()
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 16:30
+ */
+public interface FunctionBinder {
+    /**
+     * 当前运行环境是否可以使用该绑定器。
+     * 绑定器中的快速校验器在当前环境下无法得到与hibernate-validator一致的错误消息时（如非英语环境）不可用
+     *
+     * @return 是否可以使用
+     */
+    boolean isEnabled();
+
+    /**
+     * 校验并绑定功能接口的参数
+     *
+     * @param paramValues 功能接口的参数
+     * @param returnData 通过@ReturnData注入的返回结果
+     * @return 功能接口参数列表的值
+     * @throws Exception 参数校验失败异常
+     */
+    Object[] bind(List<String> paramValues, List<String> returnData) throws Exception;
+
+    /**
+     * 调用功能接口
+     *
+     * @param component 功能接口所在的组件
+     * @param args 功能接口参数列表的值
+     * @return 功能接口的返回值
+     * @throws Throwable 功能接口抛出的异常
+     */
+    Object invoke(Object component, Object[] args) throws Throwable;
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import com.cxxwl96.hiatstudio.validate.ArgumentValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.Lazy;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.ValidationContext;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ReturnData;
+import com.cxxwl96.hiatstudio.validate.handler.BeanParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.JsonParamHandler;
+import com.cxxwl96.hiatstudio.validate.handler.ListConverter;
+import com.cxxwl96.hiatstudio.validate.handler.ListParamHandler;
+import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+/**
+ * 绑定器运行时编译器
+ * 为没有编译期绑定器的热点功能接口编译绑定器，编译结果与ValidationBuilder.addDefaultValidators()的校验逻辑一致：
+ * 每个方法参数按校验处理器的顺序选择第一个匹配的校验注解，@JsonParam、@BeanParam仍由对应的校验处理器处理
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:10
+ */
+public final class FunctionBinderCompiler {
+    private FunctionBinderCompiler() {
+    }
+
+    /**
+     * 编译方法的绑定器
+     *
+     * @param method 方法
+     * @return 绑定器
+     * @throws IllegalArgumentException 方法签名的结构错误
+     */
+    public static FunctionBinder compile(Method method) {
+        final ValidationPlan plan = ValidationPlan.of(method);
+        plan.verify();
+        final Parameter[] parameters = method.getParameters();
+        final ArgumentBinder[] argumentBinders = new ArgumentBinder[parameters.length];
+        boolean metadataRequired = false;
+        for (int index = 0; index < parameters.length; index++) {
+            argumentBinders[index] = compile(parameters[index], index, plan);
+            metadataRequired |= parameters[index].isAnnotationPresent(JsonParam.class) || parameters[index]
+                .isAnnotationPresent(BeanParam.class) || (parameters[index].isAnnotationPresent(ListParam.class)
+                && !ListConverter.of(parameters[index]).isPassThrough());
+        }
+        return new CompiledFunctionBinder(method, argumentBinders, metadataRequired);
+    }
+
+    private static ArgumentBinder compile(Parameter parameter, int index, ValidationPlan plan) {
+        final String paramName = plan.getParamNames().get(index);
+        final ParamNameTable nameTable = plan.getNameTable();
+        final Class<?> type = parameter.getType();
+        final BasicParam basicParam = parameter.getAnnotation(BasicParam.class);
+        if (basicParam != null) {
+            final int paramIndex = basicParam.index();
+            final String name = basicParam.name();
+            if (!basicParam.require()) {
+                return (paramValues, returnData, metadata) -> BinderSupport.cast(paramName, paramValues,
+                    BinderSupport.indexOf(paramName, paramValues, nameTable, name, paramIndex), type);
+            }
+            return (paramValues, returnData, metadata) -> {
+                final Object paramValue = BinderSupport.cast(paramName, paramValues,
+                    BinderSupport.indexOf(paramName, paramValues, nameTable, name, paramIndex), type);
+                BinderSupport.checkConstraints(parameter, paramName, paramValue);
+                return paramValue;
+            };
+        }
+        if (parameter.isAnnotationPresent(JsonParam.class)) {
+            return newHandlerBinder(new JsonParamHandler(), parameter.getAnnotation(JsonParam.class), parameter, index,
+                plan);
+        }
+        if (parameter.isAnnotationPresent(BeanParam.class)) {
+            return newHandlerBinder(new BeanParamHandler(), parameter.getAnnotation(BeanParam.class), parameter, index,
+                plan);
+        }
+        final ListParam listParam = parameter.getAnnotation(ListParam.class);
+        if (listParam != null && ListConverter.of(parameter).isPassThrough()) {
+            final int size = listParam.size();
+            return (paramValues, returnData, metadata) -> {
+                final List<String> listValues = BinderSupport.checkListSize(size, paramValues);
+                BinderSupport.checkConstraints(parameter, paramName, listValues);
+                return listValues;
+            };
+        }
+        if (listParam != null) {
+            // 以Stream、Iterator或声明的元素类型接收
+            return newHandlerBinder(new ListParamHandler(), listParam, parameter, index, plan);
+        }
+        if (parameter.isAnnotationPresent(ReturnData.class)) {
+            return (paramValues, returnData, metadata) -> returnData;
+        }
+        // 未被任何校验处理器处理的参数使用默认值
+        final Object defaultValue = BinderSupport.defaultValue(type);
+        return (paramValues, returnData, metadata) -> defaultValue;
+    }
+
+    /*
+     * 由校验处理器处理的参数，校验处理器只初始化一次
+     */
+    private static <A extends Annotation> ArgumentBinder newHandlerBinder(ArgumentValidatorHandler<A> handler,
+        A annotation, Parameter parameter, int index, ValidationPlan plan) {
+        handler.initialize(annotation);
+        final ElementMetadata element = plan.getElement(index);
+        if (Lazy.isLazy(parameter)) {
+            // 延迟转换的参数在功能接口第一次读取时调用校验处理器，只保留参数读取的参数值的快照
+            return (paramValues, returnData, metadata) -> {
+                final ValidationMetadata snapshot = plan.snapshot(index, paramValues);
+                return Lazy.of(() -> handle(handler, snapshot, element));
+            };
+        }
+        return (paramValues, returnData, metadata) -> handle(handler, metadata.get(), element);
+    }
+
+    private static Object handle(ArgumentValidatorHandler<?> handler, ValidationMetadata metadata,
+        ElementMetadata element) throws Exception {
+        final ValidationContext context = ValidationContext.current();
+        final ValidationChain chain = context.acquireChain();
+        try {
+            return handler.handle(metadata, chain, element);
+        } finally {
+            context.releaseChain(chain);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.binder;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import cn.hutool.core.util.ReflectUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 功能接口绑定器的查找工具
+ * 编译期生成的绑定器优先；没有编译期绑定器的功能接口使用校验处理器解释执行。
+ * 运行时编译绑定器默认关闭，设置了编译阈值时调用次数达到阈值后在后台线程编译绑定器并替换，很少调用的功能接口不会产生编译开销
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 16:30
+ */
+@Slf4j
+public final class FunctionBinders {
+    // 绑定器类名中间部分，完整类名为：组件类名 + $$FunctionBinder$ + 方法名 + $ + 参数个数
+    public static final String BINDER_INFIX = "$$FunctionBinder$";
+
+    // 绑定器缓存，不存在绑定器的方法缓存为空
+    private static final Map<Method, Optional<FunctionBinder>> BINDERS = new ConcurrentHashMap<>();
+
+    // 运行时编译绑定器的调用次数阈值，小于等于0时不编译，默认不编译
+    private static volatile int compileThreshold = Integer.getInteger("hiatstudio.binder.compileThreshold", 0);
+
+    // 运行时编译绑定器的线程池
+    private static volatile Executor compiler;
+
+    private FunctionBinders() {
+    }
+
+    /**
+     * 获取方法的绑定器类名
+     *
+     * @param method 方法
+     * @return 绑定器类名
+     */
+    public static String getBinderClassName(Method method) {
+        return method.getDeclaringClass().getName() + BINDER_INFIX + method.getName() + "$"
+            + method.getParameterCount();
+    }
+
+    /**
+     * 查找方法在编译期生成的绑定器
+     *
+     * @param method 方法
+     * @return 绑定器，不存在或当前运行环境不可用时返回null
+     */
+    public static FunctionBinder find(Method method) {
+        return BINDERS.computeIfAbsent(method, FunctionBinders::load).orElse(null);
+    }
+
+    /**
+     * 设置运行时编译绑定器的调用次数阈值
+     *
+     * @param threshold 调用次数阈值，小于等于0时不编译
+     */
+    public static void setCompileThreshold(int threshold) {
+        compileThreshold = threshold;
+    }
+
+    /**
+     * 获取运行时编译绑定器的调用次数阈值，默认为系统属性hiatstudio.binder.compileThreshold，未设置时为0（不编译）
+     *
+     * @return 调用次数阈值
+     */
+    public static int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * 在后台线程编译方法的绑定器，编译失败时只记录日志，功能接口继续使用校验处理器
+     *
+     * @param method 方法
+     * @param callback 编译完成的回调
+     */
+    public static void compileAsync(Method method, Consumer<FunctionBinder> callback) {
+        getCompiler().execute(() -> {
+            try {
+                callback.accept(FunctionBinderCompiler.compile(method));
+            } catch (Exception exception) {
+                log.warn("Failed to compile FunctionBinder of " + method + ".", exception);
+            }
+        });
+    }
+
+    private static Executor getCompiler() {
+        Executor binderCompiler = compiler;
+        if (binderCompiler == null) {
+            synchronized (FunctionBinders.class) {
+                binderCompiler = compiler;
+                if (binderCompiler == null) {
+                    final ThreadFactory threadFactory = ThreadFactoryBuilder.create()
+                        .setNamePrefix("function-binder-compiler-")
+                        .setDaemon(true)
+                        .build();
+                    binderCompiler = Executors.newSingleThreadExecutor(threadFactory);
+                    compiler = binderCompiler;
+                }
+            }
+        }
+        return binderCompiler;
+    }
+
+    private static Optional<FunctionBinder> load(Method method) {
+        final String binderClassName = getBinderClassName(method);
+        final Class<?> binderClass;
+        try {
+            binderClass = Class.forName(binderClassName, true, method.getDeclaringClass().getClassLoader());
+        } catch (ClassNotFoundException exception) {
+            return Optional.empty();
+        }
+        final FunctionBinder binder = (FunctionBinder) ReflectUtil.newInstance(binderClass);
+        if (!binder.isEnabled()) {
+            log.debug("{} is disabled in the current environment.", binderClassName);
+            return Optional.empty();
+        }
+        return Optional.of(binder);
+    }
+}
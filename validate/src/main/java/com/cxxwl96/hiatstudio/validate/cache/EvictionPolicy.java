@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+/**
+ * 校验结果缓存的淘汰策略
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+public enum EvictionPolicy {
+    // 最近最少使用
+    LRU,
+
+    // 先进先出
+    FIFO,
+
+    // 最少使用次数
+    LFU
+}
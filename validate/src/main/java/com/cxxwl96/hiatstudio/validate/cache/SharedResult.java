@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+
+/**
+ * 可以在多次调用间共享的校验结果
+ * 校验失败的结果总是可以共享；校验成功时保存参数值的副本，每次取出时复制参数列表，参数值中存在json对象、集合、JavaBean等可变对象时
+ * 每次取出时深复制，调用方修改参数值不会影响其他调用方。参数值中存在无法复制的对象（参见{@link ValueCopier}）时不共享
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+final class SharedResult {
+    // 错误消息
+    private final String errorMessage;
+
+    // 参数列表的值，校验失败时为null
+    private final Object[] paramValues;
+
+    // 参数值是否全部不可变，不可变时取出只需复制参数列表
+    private final boolean immutable;
+
+    private SharedResult(String errorMessage, Object[] paramValues, boolean immutable) {
+        this.errorMessage = errorMessage;
+        this.paramValues = paramValues;
+        this.immutable = immutable;
+    }
+
+    /**
+     * 创建可以共享的校验结果
+     *
+     * @param result 校验结果
+     * @return 可以共享的校验结果，参数值中存在无法复制的对象时返回null
+     */
+    static SharedResult of(ValidationResult result) {
+        if (!result.isSuccess()) {
+            return new SharedResult(result.getErrorMessage(), null, true);
+        }
+        final Object[] paramValues = result.getParamValues();
+        if (paramValues == null) {
+            return null;
+        }
+        if (ValueCopier.isImmutable(paramValues)) {
+            return new SharedResult(null, paramValues.clone(), true);
+        }
+        // 保存快照，调用方之后修改本次的参数值不会影响共享的结果
+        final Object[] snapshot = ValueCopier.copy(paramValues);
+        return snapshot == null ? null : new SharedResult(null, snapshot, false);
+    }
+
+    /**
+     * 转换为校验结果
+     *
+     * @return 新的校验结果
+     */
+    ValidationResult toResult() {
+        if (paramValues == null) {
+            return ValidationResult.failed().setErrorMessage(errorMessage);
+        }
+        return ValidationResult.success(immutable ? paramValues.clone() : ValueCopier.copy(paramValues));
+    }
+}
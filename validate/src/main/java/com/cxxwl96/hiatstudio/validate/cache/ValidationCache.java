@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 校验结果缓存
+ * 默认关闭，调用enable()开启后，同一功能接口相同入参的校验结果（包括校验失败的错误消息）将被缓存复用，
+ * 重复的入参不再重复解析json、绑定JavaBean以及执行hibernate-validator校验。
+ * 校验成功时缓存参数值的副本，命中时复制参数列表，json对象、集合、JavaBean等可变的参数值深复制，调用方修改参数值不会影响缓存；
+ * 参数值中存在无法复制的对象（如Lazy）时不缓存。
+ * 只能一次遍历的入参（如LineSource）不缓存；被@ReturnData标注参数或存在未标注@DeterministicValidator的自定义校验处理器的功能接口
+ * 由调用方判断不使用缓存，见ValidationPlan.isCacheable()
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+public final class ValidationCache {
+    // 缓存，关闭时为null
+    private static volatile AbstractCache<ValidationKey, SharedResult> cache;
+
+    private ValidationCache() {
+    }
+
+    /**
+     * 开启校验结果缓存，已缓存的校验结果及命中统计将被清除
+     *
+     * @param policy 淘汰策略
+     * @param capacity 最多缓存的校验结果个数
+     * @param timeout 校验结果的过期时间（毫秒），小于等于0时不过期
+     */
+    public static void enable(EvictionPolicy policy, int capacity, long timeout) {
+        Assert.notNull(policy, "policy cannot be null.");
+        Assert.isTrue(capacity > 0, "capacity must be greater than 0.");
+        final long ttl = Math.max(timeout, 0);
+        switch (policy) {
+            case FIFO:
+                cache = CacheUtil.newFIFOCache(capacity, ttl);
+                break;
+            case LFU:
+                cache = CacheUtil.newLFUCache(capacity, ttl);
+                break;
+            default:
+                cache = CacheUtil.newLRUCache(capacity, ttl);
+                break;
+        }
+    }
+
+    /**
+     * 关闭校验结果缓存
+     */
+    public static void disable() {
+        cache = null;
+    }
+
+    /**
+     * 是否开启了校验结果缓存
+     *
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 清除已缓存的校验结果
+     */
+    public static void clear() {
+        final AbstractCache<ValidationKey, SharedResult> validations = cache;
+        if (validations != null) {
+            validations.clear();
+        }
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数，关闭时为0
+     */
+    public static long getHitCount() {
+        final AbstractCache<ValidationKey, SharedResult> validations = cache;
+        return validations == null ? 0 : validations.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数，关闭时为0
+     */
+    public static long getMissCount() {
+        final AbstractCache<ValidationKey, SharedResult> validations = cache;
+        return validations == null ? 0 : validations.getMissCount();
+    }
+
+    /**
+     * 获取已缓存的校验结果个数
+     *
+     * @return 校验结果个数，关闭时为0
+     */
+    public static int size() {
+        final AbstractCache<ValidationKey, SharedResult> validations = cache;
+        return validations == null ? 0 : validations.size();
+    }
+
+    /**
+     * 从缓存中获取校验结果，未命中时执行校验并缓存
+     *
+     * @param method 功能接口方法
+     * @param paramValues 功能接口的参数
+     * @param validation 校验
+     * @return 校验结果，每次返回新的校验结果
+     */
+    public static ValidationResult validate(Method method, List<String> paramValues,
+        Supplier<ValidationResult> validation) {
+        final AbstractCache<ValidationKey, SharedResult> validations = cache;
+        if (validations == null || !(paramValues instanceof RandomAccess)) {
+            return validation.get();
+        }
+        final ValidationKey key = new ValidationKey(method, paramValues);
+        final SharedResult cached = validations.get(key);
+        if (cached != null) {
+            return cached.toResult();
+        }
+        final ValidationResult result = validation.get();
+        final SharedResult shared = SharedResult.of(result);
+        if (shared != null) {
+            validations.put(key, shared);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 并发相同校验的合并（single-flight）
+ * 默认关闭，调用setEnabled(true)开启后，同一功能接口相同入参的并发校验只执行一次，其他线程等待并共享校验结果，
+ * 避免缓存失效后突发的相同请求同时解析json、绑定JavaBean以及执行hibernate-validator校验。
+ * 等待的线程共享校验结果的副本（见SharedResult），json对象、JavaBean等可变的参数值各自得到深复制的副本，
+ * 参数值中存在无法复制的对象时等待的线程各自重新校验；
+ * 只能一次遍历的入参（如LineSource）不合并；与校验结果缓存一样，只有ValidationPlan.isCacheable()的功能接口才可以合并
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:50
+ */
+public final class ValidationCoalescer {
+    // 正在执行的校验
+    private static final Map<ValidationKey, CompletableFuture<SharedResult>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    // 共享了其他线程校验结果的次数
+    private static final LongAdder COALESCED_COUNT = new LongAdder();
+
+    // 是否开启
+    private static volatile boolean enabled;
+
+    private ValidationCoalescer() {
+    }
+
+    /**
+     * 开启或关闭并发相同校验的合并
+     *
+     * @param enable 是否开启
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * 是否开启了并发相同校验的合并
+     *
+     * @return 是否开启
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 获取共享了其他线程校验结果的次数
+     *
+     * @return 合并次数
+     */
+    public static long getCoalescedCount() {
+        return COALESCED_COUNT.sum();
+    }
+
+    /**
+     * 执行校验，存在相同的正在执行的校验时等待其完成并共享校验结果
+     *
+     * @param method 功能接口方法
+     * @param paramValues 功能接口的参数
+     * @param validation 校验
+     * @return 校验结果，每次返回新的校验结果
+     */
+    public static ValidationResult validate(Method method, List<String> paramValues,
+        Supplier<ValidationResult> validation) {
+        if (!enabled || !(paramValues instanceof RandomAccess)) {
+            return validation.get();
+        }
+        final ValidationKey key = new ValidationKey(method, paramValues);
+        final CompletableFuture<SharedResult> flight = new CompletableFuture<>();
+        final CompletableFuture<SharedResult> existing = IN_FLIGHT.putIfAbsent(key, flight);
+        if (existing != null) {
+            final SharedResult shared = existing.join();
+            if (shared == null) {
+                return validation.get();
+            }
+            COALESCED_COUNT.increment();
+            return shared.toResult();
+        }
+        SharedResult shared = null;
+        try {
+            final ValidationResult result = validation.get();
+            shared = SharedResult.of(result);
+            return result;
+        } finally {
+            // 先移除再完成，完成后到达的相同校验重新执行
+            IN_FLIGHT.remove(key, flight);
+            flight.complete(shared);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 校验结果的键：功能接口方法及入参的指纹
+ * 命名参数源按名称接收参数，相同的参数值对应不同的参数名时绑定结果不同，因此参数名也是指纹的一部分
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+final class ValidationKey {
+    private final Method method;
+
+    private final String[] paramValues;
+
+    // 命名参数源的参数名，其他入参为null
+    private final String[] names;
+
+    private final int hash;
+
+    ValidationKey(Method method, List<String> paramValues) {
+        this.method = method;
+        this.paramValues = paramValues.toArray(new String[0]);
+        this.names = paramValues instanceof NamedParamSource ? namesOf((NamedParamSource) paramValues) : null;
+        this.hash = 31 * (31 * method.hashCode() + Arrays.hashCode(this.paramValues)) + Arrays.hashCode(names);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof ValidationKey)) {
+            return false;
+        }
+        final ValidationKey other = (ValidationKey) object;
+        return hash == other.hash && method.equals(other.method) && Arrays.equals(paramValues, other.paramValues)
+            && Arrays.equals(names, other.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static String[] namesOf(NamedParamSource source) {
+        final String[] names = new String[source.size()];
+        for (int index = 0; index < names.length; index++) {
+            names[index] = source.getName(index);
+        }
+        return names;
+    }
+}
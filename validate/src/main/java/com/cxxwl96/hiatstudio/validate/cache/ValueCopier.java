@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.cache;
+
+import com.alibaba.fastjson.JSONObject;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 参数值的深复制
+ * 校验结果在多次调用间共享时，json对象、集合、数组以及JavaBean等可变的参数值每次取出时复制，调用方修改参数值不会影响其他调用方。
+ * 不可变类型（String、基本类型的包装类、BigInteger、BigDecimal、枚举）直接共享；
+ * JavaBean需要有无参构造方法，按字段复制；无法复制的值（如Lazy、没有无参构造方法的类型、未知的JDK类型）不共享
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:30
+ */
+final class ValueCopier {
+    // 可以直接共享的不可变类型
+    private static final Set<Class<?>> IMMUTABLE_TYPES = CollUtil.newHashSet(String.class, Boolean.class,
+        Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class);
+
+    // 无法复制的值
+    private static final Object NOT_COPYABLE = new Object();
+
+    // JavaBean的无参构造方法，不可复制的类型缓存为空
+    private static final Map<Class<?>, Optional<Constructor<?>>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    // JavaBean需要复制的字段
+    private static final Map<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+
+    private ValueCopier() {
+    }
+
+    /**
+     * 参数值是否全部不可变
+     *
+     * @param values 参数值
+     * @return 是否全部不可变
+     */
+    static boolean isImmutable(Object[] values) {
+        for (Object value : values) {
+            if (!isImmutable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 深复制参数值
+     *
+     * @param values 参数值
+     * @return 参数值的副本，存在无法复制的值时返回null
+     */
+    static Object[] copy(Object[] values) {
+        final Map<Object, Object> copies = new IdentityHashMap<>();
+        final Object[] copied = new Object[values.length];
+        for (int index = 0; index < values.length; index++) {
+            copied[index] = copy(values[index], copies);
+            if (copied[index] == NOT_COPYABLE) {
+                return null;
+            }
+        }
+        return copied;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    private static Object copy(Object value, Map<Object, Object> copies) {
+        if (isImmutable(value)) {
+            return value;
+        }
+        // 同一个对象只复制一次，保持对象之间的引用关系（包括循环引用）
+        final Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value, copies);
+        }
+        if (value instanceof JSONObject) {
+            return copyJSONObject((JSONObject) value, copies);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value, copies);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value, copies);
+        }
+        if (value instanceof Date) {
+            return remember(copies, value, ((Date) value).clone());
+        }
+        return copyBean(value, copies);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyJSONObject(JSONObject jsonObject, Map<Object, Object> copies) {
+        final Object innerMap = copy(jsonObject.getInnerMap(), copies);
+        return innerMap == NOT_COPYABLE ? NOT_COPYABLE
+            : remember(copies, jsonObject, new JSONObject((Map<String, Object>) innerMap));
+    }
+
+    private static Object copyArray(Object array, Map<Object, Object> copies) {
+        final int length = Array.getLength(array);
+        final Object copied = Array.newInstance(array.getClass().getComponentType(), length);
+        copies.put(array, copied);
+        if (array.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(array, 0, copied, 0, length);
+            return copied;
+        }
+        for (int index = 0; index < length; index++) {
+            final Object element = copy(Array.get(array, index), copies);
+            if (element == NOT_COPYABLE) {
+                return NOT_COPYABLE;
+            }
+            Array.set(copied, index, element);
+        }
+        return copied;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyCollection(Collection<?> collection, Map<Object, Object> copies) {
+        final Collection<Object> copied;
+        if (collection instanceof EnumSet) {
+            return remember(copies, collection, ((EnumSet<?>) collection).clone());
+        } else if (collection instanceof SortedSet) {
+            copied = new TreeSet<>((java.util.Comparator<Object>) ((SortedSet<?>) collection).comparator());
+        } else {
+            final Object instance = newInstance(collection.getClass());
+            if (instance != NOT_COPYABLE) {
+                copied = (Collection<Object>) instance;
+            } else if (collection instanceof List) {
+                // 没有无参构造方法的列表（如Arrays.asList()）复制为ArrayList
+                copied = new ArrayList<>(collection.size());
+            } else if (collection instanceof Set) {
+                copied = new LinkedHashSet<>();
+            } else {
+                return NOT_COPYABLE;
+            }
+        }
+        copies.put(collection, copied);
+        for (Object element : collection) {
+            final Object copiedElement = copy(element, copies);
+            if (copiedElement == NOT_COPYABLE) {
+                return NOT_COPYABLE;
+            }
+            copied.add(copiedElement);
+        }
+        return copied;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyMap(Map<?, ?> map, Map<Object, Object> copies) {
+        final Map<Object, Object> copied;
+        if (map instanceof SortedMap) {
+            copied = new TreeMap<>((java.util.Comparator<Object>) ((SortedMap<?, ?>) map).comparator());
+        } else {
+            final Object instance = newInstance(map.getClass());
+            copied = instance != NOT_COPYABLE ? (Map<Object, Object>) instance : new LinkedHashMap<>();
+        }
+        copies.put(map, copied);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            final Object key = copy(entry.getKey(), copies);
+            final Object value = copy(entry.getValue(), copies);
+            if (key == NOT_COPYABLE || value == NOT_COPYABLE) {
+                return NOT_COPYABLE;
+            }
+            copied.put(key, value);
+        }
+        return copied;
+    }
+
+    private static Object copyBean(Object bean, Map<Object, Object> copies) {
+        final Class<?> beanClass = bean.getClass();
+        // JDK中的其他类型无法确认按字段复制是否正确
+        if (beanClass.getName().startsWith("java.") || beanClass.getName().startsWith("javax.")) {
+            return NOT_COPYABLE;
+        }
+        final Object copied = newInstance(beanClass);
+        if (copied == NOT_COPYABLE) {
+            return NOT_COPYABLE;
+        }
+        copies.put(bean, copied);
+        for (Field field : FIELDS.computeIfAbsent(beanClass, ValueCopier::getCopyableFields)) {
+            final Object value = copy(ReflectUtil.getFieldValue(bean, field), copies);
+            if (value == NOT_COPYABLE) {
+                return NOT_COPYABLE;
+            }
+            ReflectUtil.setFieldValue(copied, field, value);
+        }
+        return copied;
+    }
+
+    private static Object newInstance(Class<?> clazz) {
+        final Optional<Constructor<?>> constructor = CONSTRUCTORS.computeIfAbsent(clazz,
+            ValueCopier::getDefaultConstructor);
+        if (!constructor.isPresent()) {
+            return NOT_COPYABLE;
+        }
+        try {
+            return constructor.get().newInstance();
+        } catch (ReflectiveOperationException exception) {
+            return NOT_COPYABLE;
+        }
+    }
+
+    private static Optional<Constructor<?>> getDefaultConstructor(Class<?> clazz) {
+        if (clazz.isSynthetic() || clazz.isAnonymousClass() || Modifier.isAbstract(clazz.getModifiers())
+            || (clazz.isMemberClass() && !Modifier.isStatic(clazz.getModifiers()))) {
+            return Optional.empty();
+        }
+        try {
+            final Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return Optional.of(constructor);
+        } catch (NoSuchMethodException | SecurityException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static Field[] getCopyableFields(Class<?> beanClass) {
+        final List<Field> fields = new ArrayList<>();
+        for (Field field : ReflectUtil.getFields(beanClass)) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static Object remember(Map<Object, Object> copies, Object value, Object copied) {
+        copies.put(value, copied);
+        return copied;
+    }
+}
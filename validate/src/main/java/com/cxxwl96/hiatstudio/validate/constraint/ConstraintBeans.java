@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.constraint;
+
+import com.cxxwl96.hiatstudio.validate.Lazy;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 约束bean工厂
+ * 使用字节码增强将方法参数上的hibernate-validator的校验注解和对应的方法参数动态生成javabean，交给validate进行校验。
+ * 只有快速校验器不支持的约束才会走到这里，ByteBuddy在首次生成bean时才加载，生成的bean类型按方法参数缓存
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:10
+ */
+public final class ConstraintBeans {
+    // 方法参数对应的动态bean类型
+    private static final Map<Parameter, Class<?>> BEAN_CLASSES = new ConcurrentHashMap<>();
+
+    private ConstraintBeans() {
+    }
+
+    /**
+     * 创建携带方法参数约束注解的bean，并将参数值赋值给bean中与参数同名的字段
+     *
+     * @param parameter 方法参数
+     * @param paramName 参数名
+     * @param annotations 可以放置在类属性上的约束注解
+     * @param paramValue 参数值
+     * @return bean实例
+     * @throws InstantiationException 实例化异常
+     * @throws IllegalAccessException 访问异常
+     */
+    public static Object newInstance(Parameter parameter, String paramName, List<Annotation> annotations,
+        Object paramValue) throws InstantiationException, IllegalAccessException {
+        final Class<?> beanClass = BEAN_CLASSES.computeIfAbsent(parameter,
+            key -> defineBeanClass(key, paramName, annotations));
+        final Object beanInstance = beanClass.newInstance();
+        // 给validInstance字段赋值
+        ReflectUtil.setFieldValue(beanInstance, paramName, paramValue);
+        return beanInstance;
+    }
+
+    private static Class<?> defineBeanClass(Parameter parameter, String paramName, List<Annotation> annotations) {
+        // Lazy<T>类型的参数，bean字段的类型为T
+        final Class<?> valueType = Lazy.getValueType(parameter);
+        return new ByteBuddy().subclass(Object.class)
+            .name("HibernateValidateBean")
+            .defineField(paramName, valueType, Visibility.PUBLIC)
+            .annotateField(annotations)
+            .make()
+            .load(valueType.getClassLoader())
+            .getLoaded();
+    }
+}
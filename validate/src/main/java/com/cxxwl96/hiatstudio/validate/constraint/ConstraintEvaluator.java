@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.constraint;
+
+import com.cxxwl96.hiatstudio.validate.utils.ValidationUtil;
+
+import java.util.function.Predicate;
+
+/**
+ * 约束快速校验器
+ * 常用的内置约束在编译参数约束时预先生成校验逻辑与错误消息，校验时直接作用于转换后的参数值，无需经过hibernate-validator
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 12:10
+ */
+public final class ConstraintEvaluator {
+    // 校验逻辑
+    private final Predicate<Object> predicate;
+
+    // 插值后的错误消息
+    private final String message;
+
+    // 错误消息模板
+    private final String messageTemplate;
+
+    ConstraintEvaluator(Predicate<Object> predicate, String message, String messageTemplate) {
+        this.predicate = predicate;
+        this.message = message;
+        this.messageTemplate = messageTemplate;
+    }
+
+    /**
+     * 参数值是否满足约束
+     *
+     * @param value 参数值
+     * @return 是否满足约束
+     */
+    public boolean isValid(Object value) {
+        return predicate.test(value);
+    }
+
+    /**
+     * 获取错误消息，与hibernate-validator校验失败的错误消息一致
+     *
+     * @param paramName 参数名
+     * @param invalidValue 无效的值
+     * @return 错误消息
+     */
+    public String getErrorMessage(String paramName, Object invalidValue) {
+        return ValidationUtil.formatErrorMessage(paramName, message, messageTemplate, invalidValue);
+    }
+}
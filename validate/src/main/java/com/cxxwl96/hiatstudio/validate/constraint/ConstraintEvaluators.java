@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.constraint;
+
+import com.cxxwl96.hiatstudio.utils.ApplicationUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.regex.PatternSyntaxException;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import cn.hutool.core.convert.BasicType;
+
+/**
+ * 约束快速校验器工厂
+ * 支持@NotNull、@NotEmpty、@NotBlank、@Size、@Min、@Max、@Pattern，
+ * 遇到不支持的约束、参数类型、校验组或需要插值的自定义消息时返回null，由调用方回退到hibernate-validator校验
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 12:10
+ */
+public final class ConstraintEvaluators {
+    // 用户自定义的消息资源文件，存在时默认消息可能被覆盖
+    private static final String USER_MESSAGES = "ValidationMessages";
+
+    private ConstraintEvaluators() {
+    }
+
+    /**
+     * 编译参数上的约束为快速校验器
+     *
+     * @param valueType 参数类型
+     * @param annotations 约束注解
+     * @return 快速校验器，存在任意一个不支持的约束时返回null
+     */
+    public static List<ConstraintEvaluator> compile(Class<?> valueType, List<Annotation> annotations) {
+        final Class<?> type = BasicType.wrap(valueType);
+        final List<ConstraintEvaluator> evaluators = new ArrayList<>(annotations.size());
+        for (Annotation annotation : annotations) {
+            final ConstraintEvaluator evaluator = compile(type, annotation);
+            if (evaluator == null) {
+                return null;
+            }
+            evaluators.add(evaluator);
+        }
+        return evaluators;
+    }
+
+    private static ConstraintEvaluator compile(Class<?> type, Annotation annotation) {
+        // 指定了校验组的约束不在默认组中校验，交由hibernate-validator处理
+        if (annotation instanceof NotNull) {
+            final NotNull constraint = (NotNull) annotation;
+            return constraint.groups().length > 0 ? null : notNull(constraint.message());
+        }
+        if (annotation instanceof NotEmpty) {
+            final NotEmpty constraint = (NotEmpty) annotation;
+            return constraint.groups().length > 0 ? null : notEmpty(type, constraint.message());
+        }
+        if (annotation instanceof NotBlank) {
+            final NotBlank constraint = (NotBlank) annotation;
+            return constraint.groups().length > 0 ? null : notBlank(type, constraint.message());
+        }
+        if (annotation instanceof Size) {
+            final Size constraint = (Size) annotation;
+            return constraint.groups().length > 0 ? null
+                : size(type, constraint.min(), constraint.max(), constraint.message());
+        }
+        if (annotation instanceof Min) {
+            final Min constraint = (Min) annotation;
+            return constraint.groups().length > 0 ? null : min(type, constraint.value(), constraint.message());
+        }
+        if (annotation instanceof Max) {
+            final Max constraint = (Max) annotation;
+            return constraint.groups().length > 0 ? null : max(type, constraint.value(), constraint.message());
+        }
+        if (annotation instanceof Pattern) {
+            final Pattern constraint = (Pattern) annotation;
+            return constraint.groups().length > 0 ? null
+                : pattern(type, constraint.regexp(), constraint.flags(), constraint.message());
+        }
+        return null;
+    }
+
+    /**
+     * 创建@NotNull快速校验器
+     *
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator notNull(String message) {
+        return newEvaluator(Objects::nonNull, message, "{javax.validation.constraints.NotNull.message}",
+            "must not be null");
+    }
+
+    /**
+     * 创建@NotEmpty快速校验器
+     *
+     * @param valueType 参数类型
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator notEmpty(Class<?> valueType, String message) {
+        final ToIntFunction<Object> length = lengthFunction(BasicType.wrap(valueType));
+        if (length == null) {
+            return null;
+        }
+        return newEvaluator(value -> value != null && length.applyAsInt(value) > 0, message,
+            "{javax.validation.constraints.NotEmpty.message}", "must not be empty");
+    }
+
+    /**
+     * 创建@NotBlank快速校验器
+     *
+     * @param valueType 参数类型
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator notBlank(Class<?> valueType, String message) {
+        if (!CharSequence.class.isAssignableFrom(valueType)) {
+            return null;
+        }
+        return newEvaluator(value -> value != null && value.toString().trim().length() > 0, message,
+            "{javax.validation.constraints.NotBlank.message}", "must not be blank");
+    }
+
+    /**
+     * 创建@Size快速校验器
+     *
+     * @param valueType 参数类型
+     * @param min 最小长度
+     * @param max 最大长度
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型、非法的约束参数或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator size(Class<?> valueType, int min, int max, String message) {
+        final ToIntFunction<Object> length = lengthFunction(BasicType.wrap(valueType));
+        // 非法的约束参数交由hibernate-validator抛出异常
+        if (length == null || min < 0 || max < 0 || max < min) {
+            return null;
+        }
+        return newEvaluator(value -> {
+            if (value == null) {
+                return true;
+            }
+            final int size = length.applyAsInt(value);
+            return size >= min && size <= max;
+        }, message, "{javax.validation.constraints.Size.message}",
+            String.format(Locale.ROOT, "size must be between %d and %d", min, max));
+    }
+
+    /**
+     * 创建@Min快速校验器
+     *
+     * @param valueType 参数类型
+     * @param value 最小值
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator min(Class<?> valueType, long value, String message) {
+        final ToIntFunction<Object> comparator = compareFunction(BasicType.wrap(valueType), value);
+        if (comparator == null) {
+            return null;
+        }
+        return newEvaluator(arg -> arg == null || comparator.applyAsInt(arg) >= 0, message,
+            "{javax.validation.constraints.Min.message}", "must be greater than or equal to " + value);
+    }
+
+    /**
+     * 创建@Max快速校验器
+     *
+     * @param valueType 参数类型
+     * @param value 最大值
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator max(Class<?> valueType, long value, String message) {
+        final ToIntFunction<Object> comparator = compareFunction(BasicType.wrap(valueType), value);
+        if (comparator == null) {
+            return null;
+        }
+        return newEvaluator(arg -> arg == null || comparator.applyAsInt(arg) <= 0, message,
+            "{javax.validation.constraints.Max.message}", "must be less than or equal to " + value);
+    }
+
+    /**
+     * 创建@Pattern快速校验器
+     *
+     * @param valueType 参数类型
+     * @param regexp 正则表达式
+     * @param flags 正则表达式标志
+     * @param message 注解上配置的错误消息
+     * @return 快速校验器，不支持的参数类型、非法的正则表达式或无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    public static ConstraintEvaluator pattern(Class<?> valueType, String regexp, Pattern.Flag[] flags,
+        String message) {
+        if (!CharSequence.class.isAssignableFrom(valueType)) {
+            return null;
+        }
+        final java.util.regex.Pattern pattern;
+        try {
+            pattern = java.util.regex.Pattern.compile(regexp, flags(flags));
+        } catch (PatternSyntaxException exception) {
+            // 非法的正则表达式交由hibernate-validator抛出异常
+            return null;
+        }
+        return newEvaluator(value -> value == null || pattern.matcher((CharSequence) value).matches(), message,
+            "{javax.validation.constraints.Pattern.message}", "must match \"" + regexp + "\"");
+    }
+
+    /**
+     * 创建快速校验器
+     *
+     * @param predicate 校验逻辑
+     * @param message 注解上配置的错误消息
+     * @param defaultTemplate 默认的错误消息模板
+     * @param defaultMessage 默认的错误消息插值后的结果
+     * @return 快速校验器，无法确定与hibernate-validator一致的错误消息时返回null
+     */
+    private static ConstraintEvaluator newEvaluator(Predicate<Object> predicate, String message,
+        String defaultTemplate, String defaultMessage) {
+        // 默认消息
+        if (message.equals(defaultTemplate)) {
+            return isDefaultMessageAvailable() ? new ConstraintEvaluator(predicate, defaultMessage, message) : null;
+        }
+        // 自定义消息中不包含插值表达式时，hibernate-validator返回的就是原消息
+        for (char ch : new char[] {'{', '}', '$', '\\'}) {
+            if (message.indexOf(ch) >= 0) {
+                return null;
+            }
+        }
+        return new ConstraintEvaluator(predicate, message, message);
+    }
+
+    /**
+     * 是否可以使用内置的默认消息：语言环境为英语并且用户没有自定义消息资源文件
+     *
+     * @return 是否可以使用内置的默认消息
+     */
+    private static boolean isDefaultMessageAvailable() {
+        final Locale locale = ApplicationUtil.getLocale();
+        if (!Locale.ENGLISH.getLanguage().equals(locale.getLanguage())) {
+            return false;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ConstraintEvaluators.class.getClassLoader();
+        }
+        return classLoader.getResource(USER_MESSAGES + ".properties") == null
+            && classLoader.getResource(USER_MESSAGES + "_" + locale.getLanguage() + ".properties") == null;
+    }
+
+    /**
+     * 获取长度函数，支持字符串、集合、Map、数组
+     *
+     * @param type 参数类型
+     * @return 长度函数，不支持的类型返回null
+     */
+    private static ToIntFunction<Object> lengthFunction(Class<?> type) {
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return value -> ((CharSequence) value).length();
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return value -> ((Collection<?>) value).size();
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return value -> ((Map<?, ?>) value).size();
+        }
+        if (type.isArray()) {
+            return Array::getLength;
+        }
+        return null;
+    }
+
+    /**
+     * 获取与边界值比较的函数，支持整型数字、BigInteger、BigDecimal
+     *
+     * @param type 参数类型
+     * @param bound 边界值
+     * @return 比较函数，不支持的类型返回null
+     */
+    private static ToIntFunction<Object> compareFunction(Class<?> type, long bound) {
+        if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+            return value -> Long.compare(((Number) value).longValue(), bound);
+        }
+        if (type == BigInteger.class) {
+            final BigInteger boundValue = BigInteger.valueOf(bound);
+            return value -> ((BigInteger) value).compareTo(boundValue);
+        }
+        if (type == BigDecimal.class) {
+            final BigDecimal boundValue = BigDecimal.valueOf(bound);
+            return value -> ((BigDecimal) value).compareTo(boundValue);
+        }
+        return null;
+    }
+
+    private static int flags(Pattern.Flag[] flags) {
+        int intFlag = 0;
+        for (Pattern.Flag flag : flags) {
+            intFlag = intFlag | flag.getValue();
+        }
+        return intFlag;
+    }
+}
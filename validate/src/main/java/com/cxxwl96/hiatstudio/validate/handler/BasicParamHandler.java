@@ -55,20 +55,18 @@ public class BasicParamHandler implements ArgumentValidatorHandler<BasicParam> {
      */
     @Override
     public Object handle(ValidationMetadata metadata, ValidationChain chain, ElementMetadata element) throws Exception {
-        if (!element.onParameter()) {
-            throw new IllegalArgumentException("BasicParam supports only method parameters.");
-        }
         final Parameter parameter = element.getParameterOrField(Parameter.class);
         final String paramName = element.getName();
         // 拦截下一个校验处理器
         chain.intercept();
         final List<String> paramValues = metadata.getParamValues(); // 输入的参数值
+        // 参数值的位置，命名参数源按名称查找
+        final int index = indexOf(paramName, paramValues, metadata.getPlan().getNameTable(), basicParam.name(),
+            basicParam.index());
         // 校验参数取值是否越界
-        constraintIndexOutOfRange(paramName, basicParam.index(), paramValues.size());
-        // 获取输入的字符串参数
-        final String paramValueString = paramValues.get(basicParam.index());
-        // 参数值类型转换
-        Object paramValue = typeCast(paramName, paramValueString, parameter.getType());
+        constraintIndexOutOfRange(paramName, index, paramValues.size());
+        // 获取输入的参数并进行类型转换
+        Object paramValue = typeCast(paramName, paramValues, index, parameter.getType());
         // 非必填直接返回参数值，不做校验
         if (!basicParam.require()) {
             return paramValue;
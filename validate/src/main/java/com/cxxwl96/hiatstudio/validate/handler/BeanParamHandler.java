@@ -17,20 +17,19 @@
 package com.cxxwl96.hiatstudio.validate.handler;
 
 import com.cxxwl96.hiatstudio.validate.ArgumentValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.DefaultValidators;
 import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.ValidationContext;
 import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
-import com.cxxwl96.hiatstudio.validate.annotations.IgnoreField;
-import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
 import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.Locale;
+import java.util.List;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.util.ModifierUtil;
 import cn.hutool.core.util.ReflectUtil;
 
 /**
@@ -63,22 +62,14 @@ public class BeanParamHandler implements ArgumentValidatorHandler<BeanParam> {
      */
     @Override
     public Object handle(ValidationMetadata metadata, ValidationChain chain, ElementMetadata element) throws Exception {
-        if (!element.onParameter()) {
-            throw new IllegalArgumentException("BeanParam supports only method parameters.");
-        }
         final Parameter parameter = element.getParameterOrField(Parameter.class);
         final String paramName = element.getName();
         // 拦截下一个校验处理器
         chain.intercept();
         // 校验个数，配置了参数长度并且不满足个数相等则校验失败
         constraintSize(beanParam.size(), metadata.getParamValues().size());
-        // 参数类型是否是标准的JavaBean
-        if (!BeanUtil.isBean(parameter.getType())) {
-            throw new IllegalArgumentException(
-                "The type of parameter \"" + paramName + "\" is not a standard Javabeans");
-        }
-        // 创建javabean对象并进行字段注入
-        Object beanInstance = newBeanInstance(metadata, parameter);
+        // 参数类型是否是标准的JavaBean已在校验计划中检查，这里直接创建javabean对象并进行字段注入
+        Object beanInstance = newBeanInstance(metadata, element.getType());
         // 校验方法参数上的hibernate-validator的校验注解
         constraintHibernateValidateAnnotations(parameter, paramName, beanInstance);
         // 最终通过validate进行校验
@@ -91,38 +82,40 @@ public class BeanParamHandler implements ArgumentValidatorHandler<BeanParam> {
      * 创建Bean实例
      *
      * @param metadata metadata
-     * @param parameter parameter
+     * @param beanClass Bean类型，Lazy&lt;T&gt;类型的参数为T
      * @return Bean实例
      * @throws Exception exception
      */
-    private Object newBeanInstance(ValidationMetadata metadata, Parameter parameter) throws Exception {
-        final Object beanInstance = parameter.getType().newInstance();
+    private Object newBeanInstance(ValidationMetadata metadata, Class<?> beanClass) throws Exception {
+        final Object beanInstance = beanClass.newInstance();
         int paramValueIndex = 0; // 参数索引
-        final Field[] fields = parameter.getType().getDeclaredFields();
-        for (int i = 0; i < fields.length; i++) {
-            final Field field = fields[i];
-            // 过滤静态的字段以及忽略的字段
-            if (ModifierUtil.isStatic(field) || field.isAnnotationPresent(IgnoreField.class)) {
-                continue;
-            }
+        // 需要注入的字段（已过滤静态的字段以及忽略的字段）、字段的setter方法以及字段上的校验处理器在校验计划中只获取一次
+        final DefaultValidators validators = metadata.getPlan().getDefaultValidators();
+        for (Field field : validators.getBeanFields(beanClass)) {
             Object paramValue;
             // JsonParam注解注入
-            if (field.isAnnotationPresent(JsonParam.class)) {
-                final JsonParamHandler validator = new JsonParamHandler();
-                // 调用初始化方法
-                validator.initialize(field.getAnnotation(JsonParam.class));
-                // 调用处理器处理方法
-                final ElementMetadata element = new ElementMetadata(field, i, field.getName());
-                paramValue = validator.handle(metadata, new ValidationChain(), element);
+            final JsonParamHandler validator = validators.getFieldValidator(field);
+            if (validator != null) {
+                final ValidationContext context = ValidationContext.current();
+                final ValidationChain chain = context.acquireChain();
+                try {
+                    // 调用处理器处理方法
+                    paramValue = validator.handle(metadata, chain, validators.getFieldElement(field));
+                } finally {
+                    context.releaseChain(chain);
+                }
             } else {
+                final List<String> paramValues = metadata.getParamValues();
+                // 命名参数源按字段名接收，否则按字段顺序接收
+                final int index = paramValues instanceof NamedParamSource ? indexOf(field.getName(), paramValues,
+                    metadata.getPlan().getNameTable(), field.getName(), -1) : paramValueIndex++;
                 // 校验参数取值是否越界
-                constraintIndexOutOfRange(field.getName(), paramValueIndex, metadata.getParamValues().size());
+                constraintIndexOutOfRange(field.getName(), index, paramValues.size());
                 // 参数值类型转换
-                paramValue = typeCast(field.getName(), metadata.getParamValues().get(paramValueIndex++),
-                    field.getType());
+                paramValue = typeCast(field.getName(), paramValues, index, field.getType());
             }
             // 给bean字段赋值
-            final Method setterMethod = findFieldSetterMethod(parameter.getType(), field);
+            final Method setterMethod = validators.getFieldSetter(field);
             if (setterMethod != null) {
                 // 1、优先调用setter方法调用
                 ReflectUtil.invoke(beanInstance, setterMethod, paramValue);
@@ -133,21 +126,4 @@ public class BeanParamHandler implements ArgumentValidatorHandler<BeanParam> {
         }
         return beanInstance;
     }
-
-    /**
-     * 在class中查找字段的setter方法
-     *
-     * @param clazz 需要查找的类
-     * @param field 需要查找的字段
-     * @return 查找到的setter方法
-     */
-    private Method findFieldSetterMethod(Class<?> clazz, Field field) {
-        final String fieldName = field.getName();
-        String methodName = "set" + fieldName.substring(0, 1).toUpperCase(Locale.ROOT) + fieldName.substring(1);
-        try {
-            return ReflectUtil.getPublicMethod(clazz, methodName, field.getType());
-        } catch (SecurityException exception) {
-            return null;
-        }
-    }
 }
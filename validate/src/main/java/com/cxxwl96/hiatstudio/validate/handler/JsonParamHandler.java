@@ -25,6 +25,7 @@ import com.cxxwl96.hiatstudio.validate.ValidationChain;
 import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
 import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
 
 import java.lang.reflect.Parameter;
 import java.util.List;
@@ -67,16 +68,18 @@ public class JsonParamHandler implements ArgumentValidatorHandler<JsonParam> {
         chain.intercept();
         final List<String> paramValues = metadata.getParamValues(); // 输入的参数值
         final String paramName = element.getName();
+        // 参数值的位置，命名参数源按名称查找
+        final int index = indexOf(paramName, paramValues, metadata.getPlan().getNameTable(), jsonParam.name(),
+            jsonParam.index());
         // 校验参数取值是否越界
-        constraintIndexOutOfRange(paramName, jsonParam.index(), paramValues.size());
-        // 获取输入的字符串参数
-        final String paramValueString = paramValues.get(jsonParam.index());
-        // 判断是否是JSON字符串
-        if (!JSONUtil.isTypeJSON(paramValueString)) {
-            throw new IllegalArgumentException("\"" + paramValueString + "\" is not a JSON string");
+        constraintIndexOutOfRange(paramName, index, paramValues.size());
+        // 转换JSON字符串为对象类型，参数源是ParamSource时直接从字符、字节或参数帧中的映射、列表解析
+        Object paramValue = paramValues instanceof ParamSource ? parseJsonFromSource((ParamSource) paramValues, index)
+            : parseJsonToObject(paramValues.get(index));
+        // 转换为参数的真实类型，使返回的参数值可以直接用于调用方法
+        if (paramValue != null && !element.getType().isInstance(paramValue)) {
+            paramValue = typeCast(paramName, paramValue, element.getType());
         }
-        // 转换JSON字符串为对象类型
-        Object paramValue = parseJsonToObject(paramValueString);
         // 若@JsonParam注解在方法参数上，则需要校验方法参数上的hibernate-validator的校验注解；
         if (element.onParameter()) {
             // 校验方法参数上的hibernate-validator的校验注解
@@ -84,17 +87,37 @@ public class JsonParamHandler implements ArgumentValidatorHandler<JsonParam> {
         }
         // 若接收的类型是一个标准的类，此时这个类的字段有可能加了hibernate的校验注解，则需要再次进行校验
         // 虽然可以在这个接收类型字段上添加@Valid注解进行校验，这里做了这个步骤就可以不用添加@Valid了，
-        if (ClassUtil.isNormalClass(element.getType())) {
-            // 需要将上面得到的paramValue类型转换为真实的类，不然上面的到的paramValue并不是用户真实创建的类（可能含有hibernate的校验注解）
-            final Object beanInstance = typeCast(paramName, paramValue, element.getType());
+        if (element.onParameter() ? metadata.getPlan().isCascaded(element.getIndex())
+            : ClassUtil.isNormalClass(element.getType())) {
             // 最终通过validate进行校验
-            constraintHibernateValidate(beanInstance);
+            constraintHibernateValidate(paramValue);
         }
 
         return paramValue;
     }
 
+    private Object parseJsonFromSource(ParamSource source, int index) {
+        // 判断是否是JSON字符串
+        if (!source.isTypeJSON(index)) {
+            throw new IllegalArgumentException("\"" + source.get(index) + "\" is not a JSON string");
+        }
+        final Object json;
+        try {
+            json = source.parseJson(index);
+        } catch (JSONException exception) {
+            throw new JSONException(
+                "\"" + source.get(index) + "\" cannot be converted to JSON. " + exception.getMessage());
+        }
+        // 是否通过jsonPath进行接收，与JSONPath.read()一致
+        final String jsonPath = jsonParam.jsonPath();
+        return StrUtil.isNotBlank(jsonPath) ? JSONPath.eval(json, jsonPath) : json;
+    }
+
     private Object parseJsonToObject(String jsonText) {
+        // 判断是否是JSON字符串
+        if (!JSONUtil.isTypeJSON(jsonText)) {
+            throw new IllegalArgumentException("\"" + jsonText + "\" is not a JSON string");
+        }
         // 是否通过jsonPath进行接收
         final String jsonPath = jsonParam.jsonPath();
         if (StrUtil.isNotBlank(jsonPath)) {
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.handler;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.util.TypeUtils;
+import com.cxxwl96.hiatstudio.validate.ArgumentValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluators;
+import com.cxxwl96.hiatstudio.validate.exceptions.TypeCastException;
+import com.cxxwl96.hiatstudio.validate.source.LineSource;
+import com.cxxwl96.hiatstudio.validate.utils.PrimitiveListUtil;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.validation.Constraint;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.util.ClassUtil;
+
+/**
+ * @ListParam参数的类型转换器
+ * 每个方法参数只编译一次，按参数声明的类型转换输入的参数：int[]、long[]、double[]转换为基本数据类型数组，
+ * List&lt;Integer&gt;、List&lt;Long&gt;、List&lt;Double&gt;转换为以基本数据类型数组存储的只读列表，
+ * 枚举等简单类型的列表逐个进行类型转换，其他类型的列表将每个参数作为JSON转换为对应的类型并校验。
+ * 元素上的约束（如List&lt;@Min(0) Integer&gt;）在转换时使用快速校验器校验
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:00
+ */
+public final class ListConverter {
+    private static final Map<Parameter, ListConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    // 借用校验处理器接口中的约束方法
+    private static final ArgumentValidatorHandler<?> SUPPORT = (metadata, chain, element) -> null;
+
+    // 列表的初始容量，输入的参数个数未知时使用
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Kind kind;
+
+    // 元素类型，基本数据类型为其包装类型
+    private final Class<?> elementType;
+
+    // 元素上约束的快速校验器
+    private final List<ConstraintEvaluator> evaluators;
+
+    // 不支持的类型或约束的错误消息格式，参数为参数名
+    private final String errorFormat;
+
+    private ListConverter(Parameter parameter) {
+        final Class<?> type = parameter.getType();
+        final AnnotatedType annotatedType = parameter.getAnnotatedType();
+        AnnotatedType annotatedElement = null;
+        Kind resolvedKind = null;
+        Class<?> resolvedElementType = String.class;
+        if (type.isArray()) {
+            annotatedElement = ((AnnotatedArrayType) annotatedType).getAnnotatedGenericComponentType();
+            resolvedElementType = BasicType.wrap(type.getComponentType());
+            resolvedKind = type == int[].class ? Kind.INT_ARRAY : type == long[].class ? Kind.LONG_ARRAY
+                : type == double[].class ? Kind.DOUBLE_ARRAY : null;
+        } else if (type == Stream.class || type == Iterator.class || type.isAssignableFrom(List.class)) {
+            if (annotatedType instanceof AnnotatedParameterizedType) {
+                annotatedElement = ((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments()[0];
+                resolvedElementType = rawClass(annotatedElement.getType());
+            }
+            resolvedKind = resolveKind(type, resolvedElementType, annotatedElement);
+        }
+        final List<Annotation> annotations = scanConstraintAnnotations(annotatedElement);
+        final List<ConstraintEvaluator> compiled = ConstraintEvaluators.compile(resolvedElementType, annotations);
+        this.kind = resolvedKind;
+        this.elementType = resolvedElementType;
+        this.evaluators = compiled == null ? Collections.emptyList() : compiled;
+        if (resolvedKind == null) {
+            this.errorFormat = "The type of parameter \"%s\" is not supported by @ListParam.";
+        } else if (compiled == null) {
+            this.errorFormat = "The element constraints of parameter \"%s\" are not supported.";
+        } else {
+            this.errorFormat = null;
+        }
+    }
+
+    /**
+     * 获取方法参数的类型转换器，首次获取时编译并缓存
+     *
+     * @param parameter 被@ListParam标注的方法参数
+     * @return 类型转换器
+     */
+    public static ListConverter of(Parameter parameter) {
+        return CONVERTERS.computeIfAbsent(parameter, ListConverter::new);
+    }
+
+    /**
+     * 获取方法参数类型的结构错误
+     *
+     * @param paramName 参数名
+     * @return 结构错误，无错误时返回null
+     */
+    public String getStructureError(String paramName) {
+        return errorFormat == null ? null : String.format(Locale.ROOT, errorFormat, paramName);
+    }
+
+    /**
+     * 复制只能读取一次的参数源（如输入流）为列表，其他参数直接返回。
+     * 只能读取一次的参数源在遍历前无法获取个数，不能直接作为List、Iterable参数或用于个数约束（如@Size）的校验；
+     * 复制时遍历参数源，参数源限制了个数时（见LineSource.expectSize()）个数不一致则校验失败
+     *
+     * @param paramValues 输入的参数值
+     * @return 可以获取个数的参数值
+     */
+    public static List<String> materialize(List<String> paramValues) {
+        if (!isOneShot(paramValues)) {
+            return paramValues;
+        }
+        final List<String> copy = new ArrayList<>();
+        for (String value : paramValues) {
+            copy.add(value);
+        }
+        return copy;
+    }
+
+    /**
+     * 是否直接使用输入的参数（List&lt;String&gt;、Iterable&lt;String&gt;等），不需要转换，只能读取一次的参数源复制后使用
+     *
+     * @return 是否直接使用输入的参数
+     */
+    public boolean isPassThrough() {
+        return kind == Kind.LIST;
+    }
+
+    /**
+     * 是否流式接收（Stream、Iterator），流式接收的参数在转换前校验方法参数上的约束
+     *
+     * @return 是否流式接收
+     */
+    public boolean isStreaming() {
+        return kind == Kind.STREAM || kind == Kind.ITERATOR;
+    }
+
+    /**
+     * 转换输入的参数为方法参数的类型
+     *
+     * @param paramName 参数名
+     * @param paramValues 输入的参数值
+     * @return 转换之后的参数值
+     */
+    public Object convert(String paramName, List<String> paramValues) {
+        switch (kind) {
+            case LIST:
+                return materialize(paramValues);
+            case STREAM:
+                return paramValues.stream();
+            case ITERATOR:
+                return paramValues.iterator();
+            case CHECKED_LIST:
+                return checkStrings(paramName, paramValues);
+            case INT_ARRAY:
+                return toIntArray(paramName, paramValues);
+            case INT_LIST:
+                return PrimitiveListUtil.asList(toIntArray(paramName, paramValues));
+            case LONG_ARRAY:
+                return toLongArray(paramName, paramValues);
+            case LONG_LIST:
+                return PrimitiveListUtil.asList(toLongArray(paramName, paramValues));
+            case DOUBLE_ARRAY:
+                return toDoubleArray(paramName, paramValues);
+            case DOUBLE_LIST:
+                return PrimitiveListUtil.asList(toDoubleArray(paramName, paramValues));
+            default:
+                return toList(paramName, paramValues);
+        }
+    }
+
+    private static Kind resolveKind(Class<?> type, Class<?> elementType, AnnotatedType annotatedElement) {
+        final boolean constrained = !scanConstraintAnnotations(annotatedElement).isEmpty();
+        if (type == Stream.class || type == Iterator.class) {
+            // 流式接收只支持字符串元素，元素约束需要在转换时校验
+            if ((elementType != String.class && elementType != Object.class) || constrained) {
+                return null;
+            }
+            return type == Stream.class ? Kind.STREAM : Kind.ITERATOR;
+        }
+        if (elementType == String.class || elementType == Object.class || elementType == CharSequence.class) {
+            return constrained ? Kind.CHECKED_LIST : Kind.LIST;
+        }
+        if (elementType == Integer.class) {
+            return Kind.INT_LIST;
+        }
+        if (elementType == Long.class) {
+            return Kind.LONG_LIST;
+        }
+        if (elementType == Double.class) {
+            return Kind.DOUBLE_LIST;
+        }
+        return elementType.isEnum() || ClassUtil.isSimpleValueType(elementType) ? Kind.VALUE_LIST : Kind.BEAN_LIST;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        // 通配符、类型变量按字符串接收
+        return String.class;
+    }
+
+    private static List<Annotation> scanConstraintAnnotations(AnnotatedType annotatedElement) {
+        if (annotatedElement == null) {
+            return Collections.emptyList();
+        }
+        final List<Annotation> annotations = new ArrayList<>();
+        for (Annotation annotation : annotatedElement.getAnnotations()) {
+            if (annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+                annotations.add(annotation);
+            }
+        }
+        return annotations;
+    }
+
+    /*
+     * 校验字符串元素，只能读取一次的参数源在校验时复制
+     */
+    private List<String> checkStrings(String paramName, List<String> paramValues) {
+        final List<String> copy = isOneShot(paramValues) ? new ArrayList<>() : null;
+        int index = 0;
+        for (String value : paramValues) {
+            check(paramName, index++, value);
+            if (copy != null) {
+                copy.add(value);
+            }
+        }
+        return copy != null ? copy : paramValues;
+    }
+
+    private int[] toIntArray(String paramName, List<String> paramValues) {
+        int[] values = new int[initialCapacity(paramValues)];
+        int size = 0;
+        for (String text : paramValues) {
+            final long decimal = text == null ? TypeCastUtil.NOT_DECIMAL : TypeCastUtil.parseDecimal(text, 9);
+            final int value = decimal != TypeCastUtil.NOT_DECIMAL ? (int) decimal
+                : ((Number) castElement(paramName, size, text)).intValue();
+            if (!evaluators.isEmpty()) {
+                check(paramName, size, value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2 + 1);
+            }
+            values[size++] = value;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private long[] toLongArray(String paramName, List<String> paramValues) {
+        long[] values = new long[initialCapacity(paramValues)];
+        int size = 0;
+        for (String text : paramValues) {
+            final long decimal = text == null ? TypeCastUtil.NOT_DECIMAL : TypeCastUtil.parseDecimal(text, 18);
+            final long value = decimal != TypeCastUtil.NOT_DECIMAL ? decimal
+                : ((Number) castElement(paramName, size, text)).longValue();
+            if (!evaluators.isEmpty()) {
+                check(paramName, size, value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2 + 1);
+            }
+            values[size++] = value;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private double[] toDoubleArray(String paramName, List<String> paramValues) {
+        double[] values = new double[initialCapacity(paramValues)];
+        int size = 0;
+        for (String text : paramValues) {
+            final double value = ((Number) castElement(paramName, size, text)).doubleValue();
+            if (!evaluators.isEmpty()) {
+                check(paramName, size, value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2 + 1);
+            }
+            values[size++] = value;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private List<Object> toList(String paramName, List<String> paramValues) {
+        final List<Object> values = new ArrayList<>(initialCapacity(paramValues));
+        for (String text : paramValues) {
+            final Object value;
+            if (kind == Kind.VALUE_LIST) {
+                value = castValue(paramName, values.size(), text);
+            } else {
+                value = parseBean(paramName, values.size(), text);
+                // 校验元素类型上的约束
+                SUPPORT.constraintHibernateValidate(value);
+            }
+            check(paramName, values.size(), value);
+            values.add(value);
+        }
+        return values;
+    }
+
+    private Object parseBean(String paramName, int index, String text) {
+        try {
+            return JSON.parseObject(text, elementType);
+        } catch (RuntimeException exception) {
+            throw new TypeCastException(typeCastError(paramName, index, text), exception);
+        }
+    }
+
+    /*
+     * 基本数据类型元素的类型转换，转换结果为null时转换失败
+     */
+    private Object castElement(String paramName, int index, String text) {
+        final Object value = castValue(paramName, index, text);
+        if (value == null) {
+            throw new TypeCastException(typeCastError(paramName, index, text));
+        }
+        return value;
+    }
+
+    /*
+     * 元素的类型转换，与ArgumentValidatorHandler.typeCast()一致，只在转换失败时生成元素名
+     */
+    private Object castValue(String paramName, int index, String text) {
+        final Object simpleValue = TypeCastUtil.castSimple(text, elementType);
+        if (simpleValue != null) {
+            return simpleValue;
+        }
+        try {
+            return TypeUtils.cast(text, elementType, null);
+        } catch (Exception exception) {
+            throw new TypeCastException(typeCastError(paramName, index, text), exception);
+        }
+    }
+
+    private void check(String paramName, int index, Object value) {
+        for (int i = 0; i < evaluators.size(); i++) {
+            final ConstraintEvaluator evaluator = evaluators.get(i);
+            if (!evaluator.isValid(value)) {
+                throw new IllegalArgumentException(evaluator.getErrorMessage(elementName(paramName, index), value));
+            }
+        }
+    }
+
+    private String typeCastError(String paramName, int index, String text) {
+        return String.format(Locale.ROOT,
+            "The type of parameter \"%s\" does not match the type of the input parameter. An \"%s\" is expected, but \"%s\" is entered.",
+            elementName(paramName, index), elementType.getName(), text);
+    }
+
+    private static String elementName(String paramName, int index) {
+        return paramName + "[" + index + "]";
+    }
+
+    private static boolean isOneShot(List<String> paramValues) {
+        return paramValues instanceof LineSource && !((LineSource) paramValues).isRepeatable();
+    }
+
+    private static int initialCapacity(List<String> paramValues) {
+        return paramValues instanceof RandomAccess ? paramValues.size() : DEFAULT_CAPACITY;
+    }
+
+    private enum Kind {
+        // 直接使用输入的参数
+        LIST,
+        STREAM,
+        ITERATOR,
+        // 校验元素约束后使用输入的参数
+        CHECKED_LIST,
+        INT_ARRAY,
+        INT_LIST,
+        LONG_ARRAY,
+        LONG_LIST,
+        DOUBLE_ARRAY,
+        DOUBLE_LIST,
+        // 简单类型的列表
+        VALUE_LIST,
+        // JSON转换的类型的列表
+        BEAN_LIST
+    }
+}
@@ -23,6 +23,7 @@ import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
 
 import java.lang.reflect.Parameter;
+import java.util.List;
 
 /**
  * 处理器：@ListParam注解校验处理器
@@ -54,17 +55,22 @@ public class ListParamHandler implements ArgumentValidatorHandler<ListParam> {
      */
     @Override
     public Object handle(ValidationMetadata metadata, ValidationChain chain, ElementMetadata element) throws Exception {
-        if (!element.onParameter()) {
-            throw new IllegalArgumentException("ListParam supports only method parameters.");
-        }
         // 拦截下一个校验处理器
         chain.intercept();
         // 校验个数，配置了参数长度并且不满足个数相等则校验失败
-        constraintSize(listParam.size(), metadata.getParamValues().size());
+        final List<String> paramValues = constraintListSize(listParam.size(), metadata.getParamValues());
+        final Parameter parameter = element.getParameterOrField(Parameter.class);
+        final String paramName = element.getName();
+        final ListConverter converter = ListConverter.of(parameter);
+        // 流式接收（Stream、Iterator）时在转换前校验方法参数上的hibernate-validator的校验注解
+        if (converter.isStreaming()) {
+            constraintHibernateValidateAnnotations(parameter, paramName, paramValues);
+            return converter.convert(paramName, paramValues);
+        }
+        // 按参数声明的类型转换，转换时校验元素上的约束
+        final Object paramValue = converter.convert(paramName, paramValues);
         // 校验方法参数上的hibernate-validator的校验注解
-        String paramName = element.getName();
-        Object paramValue = metadata.getParamValues();
-        constraintHibernateValidateAnnotations(element.getParameterOrField(Parameter.class), paramName, paramValue);
-        return metadata.getParamValues();
+        constraintHibernateValidateAnnotations(parameter, paramName, paramValue);
+        return paramValue;
     }
 }
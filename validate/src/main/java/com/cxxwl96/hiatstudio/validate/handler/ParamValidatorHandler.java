@@ -17,11 +17,21 @@
 package com.cxxwl96.hiatstudio.validate.handler;
 
 import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.CustomValidatorRegistry;
 import com.cxxwl96.hiatstudio.validate.MethodValidatorHandler;
 import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.annotations.IndependentValidator;
 import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
 import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * 处理器：@ParamValidator注解校验处理器
  *
@@ -50,17 +60,117 @@ public class ParamValidatorHandler implements MethodValidatorHandler<ParamValida
      */
     @Override
     public void handle(ValidationMetadata metadata, ValidationChain chain) throws Exception {
-        // 是否设置了自定义校验，设置了则优先自定义校验
-        final Class<? extends CustomValidatorHandler>[] classes = paramValidator.customValidatorHandler();
-        for (Class<? extends CustomValidatorHandler> clazz : classes) {
-            if (!clazz.isInterface()) {
-                clazz.newInstance().handle(metadata.getParamValues(), chain);
+        handle(paramValidator.size(), paramValidator.customValidatorHandler(), metadata.getParamValues(), chain);
+    }
+
+    /**
+     * 方法校验处理，不依赖注解实例，编译期生成的FunctionBinder直接传入注解上的配置调用
+     *
+     * @param size 需要校验的参数个数，size大于等于0才做校验
+     * @param classes 自定义校验处理器
+     * @param paramValues 入参参数
+     * @param chain 校验链
+     * @throws Exception 参数校验失败异常
+     */
+    public void handle(int size, Class<? extends CustomValidatorHandler>[] classes, List<String> paramValues,
+        ValidationChain chain) throws Exception {
+        // 校验个数，配置了参数长度并且不满足个数相等则校验失败，个数错误的入参不执行自定义校验
+        constraintSize(size, paramValues.size());
+        // 执行自定义校验
+        int index = 0;
+        while (index < classes.length) {
+            // 相邻的相互独立的自定义校验处理器并发执行
+            int end = index;
+            while (end < classes.length && isIndependent(classes[end])) {
+                end++;
+            }
+            if (end - index > 1) {
+                handleConcurrently(Arrays.asList(classes).subList(index, end), paramValues, chain);
+                index = end;
+            } else {
+                final Class<? extends CustomValidatorHandler> clazz = classes[index++];
+                if (!clazz.isInterface()) {
+                    // 自定义校验处理器实例从注册中心获取，不必每次调用都创建
+                    CustomValidatorRegistry.getHandler(clazz).handle(paramValues, chain);
+                }
             }
             if (!chain.doNext()) {
                 return;
             }
         }
-        // 校验个数，配置了参数长度并且不满足个数相等则校验失败
-        constraintSize(paramValidator.size(), metadata.getParamValues().size());
+    }
+
+    /**
+     * 并发执行相互独立的自定义校验处理器，第一个在当前线程执行，其余的提交到线程池。
+     * 执行结果按声明顺序处理，与顺序执行的语义一致：某个校验处理器失败或拦截校验链时，排在其后面的校验处理器将被取消
+     *
+     * @param classes 相互独立的自定义校验处理器
+     * @param paramValues 入参参数
+     * @param chain 校验链
+     * @throws Exception 参数校验失败异常
+     */
+    private void handleConcurrently(List<Class<? extends CustomValidatorHandler>> classes, List<String> paramValues,
+        ValidationChain chain) throws Exception {
+        final List<FutureTask<ValidationChain>> tasks = new ArrayList<>(classes.size());
+        for (int i = 0; i < classes.size(); i++) {
+            final int taskIndex = i;
+            final Class<? extends CustomValidatorHandler> clazz = classes.get(i);
+            tasks.add(new FutureTask<>(() -> {
+                // 每个校验处理器使用各自的校验链
+                final ValidationChain taskChain = new ValidationChain();
+                try {
+                    // 在执行线程中获取实例，保证@ThreadLocalHandler的实例不会跨线程使用
+                    CustomValidatorRegistry.getHandler(clazz).handle(paramValues, taskChain);
+                } catch (Exception exception) {
+                    cancelAfter(tasks, taskIndex);
+                    throw exception;
+                }
+                if (!taskChain.doNext()) {
+                    cancelAfter(tasks, taskIndex);
+                }
+                return taskChain;
+            }));
+        }
+        final Executor executor = CustomValidatorRegistry.getExecutor();
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException exception) {
+                // 线程池拒绝时在当前线程执行
+                tasks.get(i).run();
+            }
+        }
+        tasks.get(0).run();
+        // 按声明顺序处理执行结果
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                final ValidationChain taskChain;
+                try {
+                    taskChain = tasks.get(i).get();
+                } catch (ExecutionException exception) {
+                    final Throwable cause = exception.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw (Error) cause;
+                }
+                if (!taskChain.doNext()) {
+                    chain.intercept();
+                    return;
+                }
+            }
+        } finally {
+            cancelAfter(tasks, -1);
+        }
+    }
+
+    private void cancelAfter(List<FutureTask<ValidationChain>> tasks, int index) {
+        for (int i = index + 1; i < tasks.size(); i++) {
+            tasks.get(i).cancel(true);
+        }
+    }
+
+    private boolean isIndependent(Class<? extends CustomValidatorHandler> clazz) {
+        return !clazz.isInterface() && clazz.isAnnotationPresent(IndependentValidator.class);
     }
 }
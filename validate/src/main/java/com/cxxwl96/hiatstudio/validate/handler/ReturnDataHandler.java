@@ -41,9 +41,6 @@ public class ReturnDataHandler implements ArgumentValidatorHandler<ReturnData> {
      */
     @Override
     public Object handle(ValidationMetadata metadata, ValidationChain chain, ElementMetadata element) throws Exception {
-        if (!element.onParameter()) {
-            throw new IllegalArgumentException("ReturnData supports only method parameters.");
-        }
         // 拦截下一个校验处理器
         chain.intercept();
         return metadata.getReturnData();
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.metadata;
+
+import com.cxxwl96.hiatstudio.validate.Lazy;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluators;
+import com.cxxwl96.hiatstudio.validate.utils.ValidationUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.validation.Constraint;
+import javax.validation.Valid;
+
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * 约束索引
+ * 记录方法参数、Bean类型上是否存在hibernate-validator的约束，首次使用时建立索引，之后直接查表。
+ * 不存在约束的方法参数或Bean类型无需再走hibernate-validator的校验流程（包括动态生成bean），
+ * 方法参数上常用的内置约束则编译为快速校验器。
+ * Bean类型先通过反射查找约束注解，存在约束注解时才向hibernate-validator确认，没有约束的Bean类型不会启动hibernate-validator。
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 11:40
+ */
+public final class ConstraintIndex {
+    // 方法参数的约束元数据
+    private static final Map<Parameter, ParameterConstraint> PARAMETER_INDEX = new ConcurrentHashMap<>();
+
+    // Bean类型是否存在约束
+    private static final Map<Class<?>, Boolean> BEAN_INDEX = new ConcurrentHashMap<>();
+
+    // 是否存在XML约束映射，XML中的约束无法通过反射查找
+    private static final boolean XML_MAPPING = ConstraintIndex.class.getClassLoader().getResource(
+        "META-INF/validation.xml") != null;
+
+    private ConstraintIndex() {
+    }
+
+    /**
+     * 启动时预先建立方法的约束索引，包括方法参数以及@BeanParam、@JsonParam接收的方法参数类型（标准的类）
+     * 其他方法参数的类型不会进行级联校验，无需为其加载hibernate-validator
+     *
+     * @param method 方法
+     */
+    public static void index(Method method) {
+        for (Parameter parameter : method.getParameters()) {
+            getConstraint(parameter);
+            final Class<?> valueType = Lazy.getValueType(parameter);
+            final boolean cascaded = parameter.isAnnotationPresent(BeanParam.class) || parameter.isAnnotationPresent(
+                JsonParam.class);
+            if (cascaded && ClassUtil.isNormalClass(valueType)) {
+                isBeanConstrained(valueType);
+            }
+        }
+    }
+
+    /**
+     * 方法参数上是否存在约束注解
+     *
+     * @param parameter 方法参数
+     * @return 是否存在约束注解
+     */
+    public static boolean isConstrained(Parameter parameter) {
+        return getConstraint(parameter).isConstrained();
+    }
+
+    /**
+     * 获取方法参数的约束元数据
+     *
+     * @param parameter 方法参数
+     * @return 约束元数据
+     */
+    public static ParameterConstraint getConstraint(Parameter parameter) {
+        return PARAMETER_INDEX.computeIfAbsent(parameter, ConstraintIndex::compileConstraint);
+    }
+
+    /**
+     * Bean类型是否存在约束（类、字段、getter上的约束或级联校验）
+     * 类型层次中没有约束注解时不需要启动hibernate-validator
+     *
+     * @param beanClass Bean类型
+     * @return 是否存在约束
+     */
+    public static boolean isBeanConstrained(Class<?> beanClass) {
+        return BEAN_INDEX.computeIfAbsent(beanClass, clazz -> (XML_MAPPING || hasConstraintAnnotations(clazz,
+            new HashSet<>())) && ValidationUtil.getValidator().getConstraintsForClass(clazz).isBeanConstrained());
+    }
+
+    /*
+     * 反射查找类型层次（父类、接口）中类、字段、方法上的约束注解，包括类型参数上的约束（如List<@NotBlank String>）。
+     * 只用于排除没有约束的类型，方法上的注解不区分是否getter
+     */
+    private static boolean hasConstraintAnnotations(Class<?> clazz, Set<Class<?>> visited) {
+        if (clazz == null || clazz == Object.class || !visited.add(clazz)) {
+            return false;
+        }
+        if (hasConstraintAnnotation(clazz.getDeclaredAnnotations())) {
+            return true;
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            if (hasConstraintAnnotation(field.getDeclaredAnnotations()) || hasConstraintAnnotation(
+                field.getAnnotatedType())) {
+                return true;
+            }
+        }
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (hasConstraintAnnotation(method.getDeclaredAnnotations()) || hasConstraintAnnotation(
+                method.getAnnotatedReturnType())) {
+                return true;
+            }
+        }
+        if (hasConstraintAnnotations(clazz.getSuperclass(), visited)) {
+            return true;
+        }
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            if (hasConstraintAnnotations(interfaceClass, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasConstraintAnnotation(AnnotatedType type) {
+        if (hasConstraintAnnotation(type.getAnnotations())) {
+            return true;
+        }
+        if (type instanceof AnnotatedParameterizedType) {
+            for (AnnotatedType argument : ((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments()) {
+                if (hasConstraintAnnotation(argument)) {
+                    return true;
+                }
+            }
+        } else if (type instanceof AnnotatedArrayType) {
+            return hasConstraintAnnotation(((AnnotatedArrayType) type).getAnnotatedGenericComponentType());
+        } else if (type instanceof AnnotatedWildcardType) {
+            for (AnnotatedType bound : ((AnnotatedWildcardType) type).getAnnotatedUpperBounds()) {
+                if (hasConstraintAnnotation(bound)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasConstraintAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (isConstraintAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ParameterConstraint compileConstraint(Parameter parameter) {
+        final List<Annotation> annotations = scanConstraintAnnotations(parameter);
+        // Lazy<T>类型的参数上的约束作用于T
+        final Class<?> valueType = Lazy.getValueType(parameter);
+        if (annotations.isEmpty()) {
+            return new ParameterConstraint(annotations, valueType, Collections.emptyList());
+        }
+        // 常用的内置约束编译为快速校验器
+        final List<ConstraintEvaluator> evaluators = ConstraintEvaluators.compile(valueType, annotations);
+        return new ParameterConstraint(annotations, valueType, evaluators);
+    }
+
+    private static List<Annotation> scanConstraintAnnotations(Parameter parameter) {
+        final List<Annotation> annotations = new ArrayList<>();
+        for (Annotation annotation : parameter.getAnnotations()) {
+            // 过滤得到可以放置在类属性上的注解，动态生成的bean只能携带这些注解
+            final Target target = annotation.annotationType().getAnnotation(Target.class);
+            if (target == null || !contains(target.value(), ElementType.FIELD)) {
+                continue;
+            }
+            if (isConstraintAnnotation(annotation)) {
+                annotations.add(annotation);
+            }
+        }
+        return annotations.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(annotations);
+    }
+
+    /**
+     * 是否约束注解：被@Constraint标注的注解、@Valid、或者约束注解的List容器（如@Size.List）
+     *
+     * @param annotation 注解
+     * @return 是否约束注解
+     */
+    private static boolean isConstraintAnnotation(Annotation annotation) {
+        final Class<? extends Annotation> annotationType = annotation.annotationType();
+        if (annotationType == Valid.class || annotationType.isAnnotationPresent(Constraint.class)) {
+            return true;
+        }
+        final Method valueMethod = ReflectUtil.getMethod(annotationType, "value");
+        if (valueMethod == null || !valueMethod.getReturnType().isArray()) {
+            return false;
+        }
+        final Class<?> componentType = valueMethod.getReturnType().getComponentType();
+        return componentType.isAnnotation() && componentType.isAnnotationPresent(Constraint.class);
+    }
+
+    private static boolean contains(ElementType[] elementTypes, ElementType elementType) {
+        for (ElementType type : elementTypes) {
+            if (type == elementType) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -16,7 +16,7 @@
 
 package com.cxxwl96.hiatstudio.validate.metadata;
 
-import com.alibaba.fastjson.util.TypeUtils;
+import com.cxxwl96.hiatstudio.validate.Lazy;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
@@ -49,7 +49,8 @@ public class ElementMetadata {
     public ElementMetadata(Object parameterOrField, int index, String name) {
         this.parameterOrField = parameterOrField;
         if (parameterOrField instanceof Parameter) {
-            this.type = ((Parameter) parameterOrField).getType();
+            // Lazy<T>类型的参数按T转换
+            this.type = Lazy.getValueType((Parameter) parameterOrField);
         } else if (parameterOrField instanceof Field) {
             this.type = ((Field) parameterOrField).getType();
         } else {
@@ -61,7 +62,7 @@ public class ElementMetadata {
     }
 
     public <T> T getParameterOrField(Class<T> parameterOrFieldClass) {
-        return TypeUtils.cast(parameterOrField, parameterOrFieldClass, null);
+        return parameterOrFieldClass.isInstance(parameterOrField) ? parameterOrFieldClass.cast(parameterOrField) : null;
     }
 
     /**
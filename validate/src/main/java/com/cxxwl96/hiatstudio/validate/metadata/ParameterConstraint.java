@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.metadata;
+
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import cn.hutool.core.convert.BasicType;
+import lombok.Getter;
+
+/**
+ * 方法参数的约束元数据
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 12:30
+ */
+@Getter
+public class ParameterConstraint {
+    // 方法参数上可以放置在类属性上的约束注解
+    private final List<Annotation> annotations;
+
+    // 参数类型，基本数据类型为其包装类型
+    private final Class<?> valueType;
+
+    // 快速校验器，为null时表示需要回退到hibernate-validator校验
+    private final List<ConstraintEvaluator> evaluators;
+
+    public ParameterConstraint(List<Annotation> annotations, Class<?> valueType,
+        List<ConstraintEvaluator> evaluators) {
+        this.annotations = annotations;
+        this.valueType = BasicType.wrap(valueType);
+        this.evaluators = evaluators;
+    }
+
+    /**
+     * 是否存在约束
+     *
+     * @return 是否存在约束
+     */
+    public boolean isConstrained() {
+        return !annotations.isEmpty();
+    }
+
+    /**
+     * 参数值是否可以使用快速校验器校验。参数值必须是参数类型的实例，否则需要hibernate-validator先进行类型转换
+     *
+     * @param value 参数值
+     * @return 是否可以使用快速校验器校验
+     */
+    public boolean isFastPath(Object value) {
+        return evaluators != null && (value == null || valueType.isInstance(value));
+    }
+}
@@ -16,12 +16,11 @@
 
 package com.cxxwl96.hiatstudio.validate.metadata;
 
-import org.springframework.core.DefaultParameterNameDiscoverer;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
 
 import java.lang.reflect.Method;
 import java.util.List;
 
-import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Assert;
 import lombok.Getter;
 
@@ -33,12 +32,12 @@ import lombok.Getter;
  */
 @Getter
 public class ValidationMetadata {
-    // 参数名工具，Spring的参数名工具
-    private static final DefaultParameterNameDiscoverer DISCOVERER = new DefaultParameterNameDiscoverer();
-
     // 执行的功能接口
     private final Method runMethod;
 
+    // 校验计划
+    private final ValidationPlan plan;
+
     // 参数名
     private final List<String> paramNames;
 
@@ -53,8 +52,9 @@ public class ValidationMetadata {
         Assert.notNull(paramValues, "paramValues cannot be null.");
         Assert.notNull(returnData, "returnData cannot be null.");
         this.runMethod = runMethod;
-        // 使用Spring工具获取参数名
-        this.paramNames = CollUtil.newArrayList(DISCOVERER.getParameterNames(runMethod));
+        this.plan = ValidationPlan.of(runMethod);
+        // 参数名从校验计划中获取，只在编译校验计划时解析一次，不再复制
+        this.paramNames = plan.getParamNames();
         this.paramValues = paramValues;
         this.returnData = returnData;
     }
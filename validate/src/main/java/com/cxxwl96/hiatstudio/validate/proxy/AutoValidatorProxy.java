@@ -16,27 +16,59 @@
 package com.cxxwl96.hiatstudio.validate.proxy;
 
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cn.hutool.core.exceptions.ExceptionUtil;
 
 /**
  * AutoValidatorProxy
+ * 创建自动校验的代理对象，调用@FunctionInterface标注的方法前自动校验参数。
+ * 代理类按类型缓存，同一类型只生成一次代理类
  *
  * @author cxxwl96
  * @since 2023/6/25 06:06
  */
 public abstract class AutoValidatorProxy {
+    // JDK代理类的构造器，按类加载器和接口列表缓存
+    private static final Map<List<Object>, Constructor<?>> JDK_PROXY_CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    // CGLIB代理类的工厂，按类型缓存
+    private static final Map<Class<?>, Factory> CGLIB_PROXY_FACTORIES = new ConcurrentHashMap<>();
+
     public static <T> T buildBean(Object bean, Class<?>... beanInterfaces) {
         ClassLoader classLoader = bean.getClass().getClassLoader();
-        Object instance = Proxy.newProxyInstance(classLoader, beanInterfaces, new JdkValidatorProxy(bean));
-        return (T) instance;
+        final List<Object> key = Arrays.asList(classLoader, Arrays.asList(beanInterfaces));
+        final Constructor<?> constructor = JDK_PROXY_CONSTRUCTORS.computeIfAbsent(key, k -> {
+            try {
+                return Proxy.getProxyClass(classLoader, beanInterfaces).getConstructor(InvocationHandler.class);
+            } catch (NoSuchMethodException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        try {
+            Object instance = constructor.newInstance(new JdkValidatorProxy(bean));
+            return (T) instance;
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(ExceptionUtil.unwrap(exception));
+        }
     }
 
     public static <T> T buildBean(Class<T> beanClass) {
-        final Enhancer enhancer = new Enhancer();
-        enhancer.setSuperclass(beanClass);
-        enhancer.setCallback(new CglibValidatorProxy());
-        Object instance = enhancer.create();
+        final Factory factory = CGLIB_PROXY_FACTORIES.computeIfAbsent(beanClass, clazz -> {
+            final Enhancer enhancer = new Enhancer();
+            enhancer.setSuperclass(clazz);
+            enhancer.setCallback(CglibValidatorProxy.INSTANCE);
+            return (Factory) enhancer.create();
+        });
+        Object instance = factory.newInstance(CglibValidatorProxy.INSTANCE);
         return (T) instance;
     }
 }
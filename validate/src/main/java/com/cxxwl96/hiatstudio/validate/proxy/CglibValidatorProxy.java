@@ -15,6 +15,9 @@
  */
 package com.cxxwl96.hiatstudio.validate.proxy;
 
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
@@ -22,16 +25,21 @@ import java.lang.reflect.Method;
 
 /**
  * CglibValidatorProxy
+ * 调用@FunctionInterface标注的方法前执行校验计划，目标方法通过MethodProxy直接调用父类方法
  *
  * @author cxxwl96
  * @since 2023/6/25 06:47
  */
 class CglibValidatorProxy implements MethodInterceptor {
+    // 无状态，所有代理对象共享
+    static final CglibValidatorProxy INSTANCE = new CglibValidatorProxy();
+
     @Override
     public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
-        System.out.println("Before...");
-        Object res = proxy.invokeSuper(obj, args);
-        System.out.println("After...");
-        return res;
+        // 功能接口在调用前校验参数，其他方法（如toString、hashCode）不创建校验计划
+        if (method.isAnnotationPresent(FunctionInterface.class)) {
+            ValidationPlan.of(method).validateArguments(args);
+        }
+        return proxy.invokeSuper(obj, args);
     }
 }
@@ -15,27 +15,74 @@
  */
 package com.cxxwl96.hiatstudio.validate.proxy;
 
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JdkValidatorProxy
+ * 调用@FunctionInterface标注的方法前执行校验计划，目标方法通过缓存的MethodHandle调用
  *
  * @author cxxwl96
  * @since 2023/6/25 06:13
  */
 class JdkValidatorProxy implements InvocationHandler {
+    // 目标类型中接口方法对应的实现方法，按目标类型缓存
+    private static final Map<Class<?>, Map<Method, ProxyMethod>> PROXY_METHODS = new ConcurrentHashMap<>();
+
     private final Object obj;
 
+    // 目标类型的接口方法对应的实现方法
+    private final Map<Method, ProxyMethod> proxyMethods;
+
     public JdkValidatorProxy(Object obj) {
         this.obj = obj;
+        this.proxyMethods = PROXY_METHODS.computeIfAbsent(obj.getClass(), clazz -> new ConcurrentHashMap<>());
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        System.out.println("Before...");
-        final Object res = method.invoke(obj, args);
-        System.out.println("After...");
-        return res;
+        final ProxyMethod proxyMethod = proxyMethods.computeIfAbsent(method, this::resolve);
+        // 功能接口在调用前校验参数
+        if (proxyMethod.plan != null) {
+            proxyMethod.plan.validateArguments(args);
+        }
+        return proxyMethod.invoker.invoke(obj, args);
+    }
+
+    /**
+     * 解析接口方法在目标类型中的实现方法，@FunctionInterface注解在实现方法上
+     *
+     * @param method 接口方法
+     * @return 实现方法
+     */
+    private ProxyMethod resolve(Method method) {
+        Method implMethod;
+        try {
+            implMethod = obj.getClass().getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException exception) {
+            implMethod = method;
+        }
+        // 只有功能接口创建校验计划
+        final ValidationPlan plan = implMethod.isAnnotationPresent(FunctionInterface.class) ? ValidationPlan.of(
+            implMethod) : null;
+        return new ProxyMethod(plan, MethodInvoker.of(implMethod));
+    }
+
+    private static class ProxyMethod {
+        // 实现方法的校验计划，不是功能接口时为null
+        private final ValidationPlan plan;
+
+        // 实现方法的调用器
+        private final MethodInvoker invoker;
+
+        private ProxyMethod(ValidationPlan plan, MethodInvoker invoker) {
+            this.plan = plan;
+            this.invoker = invoker;
+        }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 方法调用器
+ * 每个方法只解析一次MethodHandle并缓存，调用时不再经过反射的访问检查与参数包装
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 14:50
+ */
+public final class MethodInvoker {
+    // 统一的调用类型：(Object target, Object[] args)Object
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    // 无参方法的参数
+    private static final Object[] NO_ARGS = new Object[0];
+
+    // 方法调用器缓存
+    private static final Map<Method, MethodInvoker> INVOKERS = new ConcurrentHashMap<>();
+
+    // 方法
+    private final Method method;
+
+    // 适配为统一调用类型的MethodHandle
+    private final MethodHandle handle;
+
+    private MethodInvoker(Method method) {
+        this.method = method;
+        try {
+            method.setAccessible(true);
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+            // 静态方法忽略调用对象
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            this.handle = methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKE_TYPE);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access method " + method, exception);
+        }
+    }
+
+    /**
+     * 获取方法调用器，首次获取时创建并缓存
+     *
+     * @param method 方法
+     * @return 方法调用器
+     */
+    public static MethodInvoker of(Method method) {
+        return INVOKERS.computeIfAbsent(method, MethodInvoker::new);
+    }
+
+    /**
+     * 获取方法
+     *
+     * @return 方法
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 调用方法，方法抛出的异常原样抛出
+     *
+     * @param target 调用对象，静态方法可以为null
+     * @param args 方法参数
+     * @return 方法返回值
+     * @throws Throwable 方法抛出的异常
+     */
+    public Object invoke(Object target, Object[] args) throws Throwable {
+        // invokeExact要求调用点的类型与MethodHandle的类型完全一致，这里先声明为Object[]
+        final Object[] arguments = args == null ? NO_ARGS : args;
+        return (Object) handle.invokeExact(target, arguments);
+    }
+}
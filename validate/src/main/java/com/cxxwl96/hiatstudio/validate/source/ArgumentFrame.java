@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+/**
+ * 二进制参数帧格式
+ * 帧 = 魔数(1字节) + 版本(1字节) + 参数个数(varint) + 参数值...
+ * 参数值 = 类型标签(1字节) + 数据：整数为zigzag编码的varint，浮点数为8字节大端IEEE 754，
+ * 字符串与字节数组为长度(varint) + 数据（字符串为UTF-8编码），列表为元素个数(varint) + 元素，
+ * 映射为键值对个数(varint) + (键的长度(varint) + UTF-8编码的键 + 值)...
+ * 列表与映射最多嵌套MAX_DEPTH层
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:00
+ */
+final class ArgumentFrame {
+    // 魔数
+    static final byte MAGIC = (byte) 0xA7;
+
+    // 版本
+    static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+
+    static final byte FALSE = 1;
+
+    static final byte TRUE = 2;
+
+    static final byte INT = 3;
+
+    static final byte LONG = 4;
+
+    static final byte DOUBLE = 5;
+
+    static final byte STRING = 6;
+
+    static final byte BYTES = 7;
+
+    static final byte LIST = 8;
+
+    static final byte MAP = 9;
+
+    // 列表与映射的最大嵌套深度，读取时防止恶意构造的参数帧导致栈溢出
+    static final int MAX_DEPTH = 64;
+
+    private ArgumentFrame() {
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 二进制参数帧读取器，格式见ArgumentFrame
+ * 整数、浮点数、布尔值直接读取为对应的包装类型，映射读取为JSONObject，列表读取为JSONArray，
+ * 校验处理器可以直接使用而不需要解析文本
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:00
+ */
+public final class ArgumentFrameReader {
+    private final byte[] bytes;
+
+    private final int limit;
+
+    private int position;
+
+    private ArgumentFrameReader(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * 读取二进制参数帧
+     *
+     * @param bytes 二进制参数帧
+     * @return 参数值
+     * @throws IllegalArgumentException 参数帧格式错误
+     */
+    public static List<Object> read(byte[] bytes) {
+        return read(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 读取二进制参数帧
+     *
+     * @param bytes 字节数组
+     * @param offset 参数帧在字节数组中的起始位置
+     * @param length 参数帧的字节长度
+     * @return 参数值
+     * @throws IllegalArgumentException 参数帧格式错误
+     */
+    public static List<Object> read(byte[] bytes, int offset, int length) {
+        final ArgumentFrameReader reader = new ArgumentFrameReader(bytes, offset, length);
+        if (reader.readByte() != ArgumentFrame.MAGIC) {
+            throw new IllegalArgumentException("Malformed argument frame: bad magic.");
+        }
+        final byte version = reader.readByte();
+        if (version != ArgumentFrame.VERSION) {
+            throw new IllegalArgumentException("Unsupported argument frame version " + version + ".");
+        }
+        final int count = reader.readLength();
+        final List<Object> values = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            values.add(reader.readValue(0));
+        }
+        if (reader.position != reader.limit) {
+            throw new IllegalArgumentException("Malformed argument frame: trailing bytes.");
+        }
+        return values;
+    }
+
+    private Object readValue(int depth) {
+        final byte tag = readByte();
+        switch (tag) {
+            case ArgumentFrame.NULL:
+                return null;
+            case ArgumentFrame.FALSE:
+                return Boolean.FALSE;
+            case ArgumentFrame.TRUE:
+                return Boolean.TRUE;
+            case ArgumentFrame.INT:
+                final long zigzag = readVarLong();
+                return (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+            case ArgumentFrame.LONG:
+                final long value = readVarLong();
+                return (value >>> 1) ^ -(value & 1);
+            case ArgumentFrame.DOUBLE:
+                require(8);
+                long bits = 0;
+                for (int index = 0; index < 8; index++) {
+                    bits = (bits << 8) | (bytes[position++] & 0xFF);
+                }
+                return Double.longBitsToDouble(bits);
+            case ArgumentFrame.STRING:
+                return readString();
+            case ArgumentFrame.BYTES:
+                final int length = readLength();
+                require(length);
+                position += length;
+                return Arrays.copyOfRange(bytes, position - length, position);
+            case ArgumentFrame.LIST:
+                checkDepth(depth);
+                final int size = readLength();
+                final JSONArray array = new JSONArray(Math.min(size, limit - position));
+                for (int index = 0; index < size; index++) {
+                    array.add(readValue(depth + 1));
+                }
+                return array;
+            case ArgumentFrame.MAP:
+                checkDepth(depth);
+                final int entries = readLength();
+                final JSONObject object = new JSONObject();
+                for (int index = 0; index < entries; index++) {
+                    object.put(readString(), readValue(depth + 1));
+                }
+                return object;
+            default:
+                throw new IllegalArgumentException("Malformed argument frame: unknown tag " + tag + ".");
+        }
+    }
+
+    private void checkDepth(int depth) {
+        if (depth >= ArgumentFrame.MAX_DEPTH) {
+            throw new IllegalArgumentException("Malformed argument frame: nesting is too deep.");
+        }
+    }
+
+    private String readString() {
+        final int length = readLength();
+        require(length);
+        position += length;
+        return new String(bytes, position - length, length, StandardCharsets.UTF_8);
+    }
+
+    private int readLength() {
+        final long length = readVarLong();
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException("Malformed argument frame: bad length " + length + ".");
+        }
+        return (int) length;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte current = readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed argument frame: varint is too long.");
+    }
+
+    private byte readByte() {
+        require(1);
+        return bytes[position++];
+    }
+
+    private void require(int length) {
+        if (limit - position < length) {
+            throw new IllegalArgumentException("Malformed argument frame: unexpected end of frame.");
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 二进制参数帧写入器
+ * 写入的参数值按顺序作为功能接口的参数，由ParamSource.ofFrame()读取，格式见ArgumentFrame。
+ * 例如：new ArgumentFrameWriter().writeInt(1).writeString("cyk").toByteArray()
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:00
+ */
+public final class ArgumentFrameWriter {
+    private byte[] buffer = new byte[64];
+
+    private int position;
+
+    // 参数个数
+    private int count;
+
+    /**
+     * 写入null
+     *
+     * @return this
+     */
+    public ArgumentFrameWriter writeNull() {
+        return writeTag(ArgumentFrame.NULL);
+    }
+
+    /**
+     * 写入布尔值
+     *
+     * @param value 布尔值
+     * @return this
+     */
+    public ArgumentFrameWriter writeBoolean(boolean value) {
+        return writeTag(value ? ArgumentFrame.TRUE : ArgumentFrame.FALSE);
+    }
+
+    /**
+     * 写入int
+     *
+     * @param value int
+     * @return this
+     */
+    public ArgumentFrameWriter writeInt(int value) {
+        writeTag(ArgumentFrame.INT);
+        writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        return this;
+    }
+
+    /**
+     * 写入long
+     *
+     * @param value long
+     * @return this
+     */
+    public ArgumentFrameWriter writeLong(long value) {
+        writeTag(ArgumentFrame.LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    /**
+     * 写入double
+     *
+     * @param value double
+     * @return this
+     */
+    public ArgumentFrameWriter writeDouble(double value) {
+        writeTag(ArgumentFrame.DOUBLE);
+        final long bits = Double.doubleToLongBits(value);
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * 写入字符串，null写入为null
+     *
+     * @param value 字符串
+     * @return this
+     */
+    public ArgumentFrameWriter writeString(String value) {
+        if (value == null) {
+            return writeNull();
+        }
+        writeTag(ArgumentFrame.STRING);
+        writeUtf8(value);
+        return this;
+    }
+
+    /**
+     * 写入字节数组，null写入为null
+     *
+     * @param value 字节数组
+     * @return this
+     */
+    public ArgumentFrameWriter writeBytes(byte[] value) {
+        if (value == null) {
+            return writeNull();
+        }
+        writeTag(ArgumentFrame.BYTES);
+        writeRaw(value);
+        return this;
+    }
+
+    /**
+     * 写入参数值，支持null、Boolean、Integer、Short、Byte、Long、Double、Float、CharSequence、byte[]、List、Map&lt;String, ?&gt;
+     *
+     * @param value 参数值
+     * @return this
+     */
+    public ArgumentFrameWriter writeValue(Object value) {
+        if (value == null) {
+            return writeNull();
+        }
+        if (value instanceof Boolean) {
+            return writeBoolean((Boolean) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return writeInt(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return writeLong((Long) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return writeDouble(((Number) value).doubleValue());
+        }
+        if (value instanceof CharSequence) {
+            return writeString(value.toString());
+        }
+        if (value instanceof byte[]) {
+            return writeBytes((byte[]) value);
+        }
+        if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            writeTag(ArgumentFrame.LIST);
+            writeVarLong(list.size());
+            for (Object element : list) {
+                writeNested(element);
+            }
+            return this;
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            writeTag(ArgumentFrame.MAP);
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Assert.isInstanceOf(String.class, entry.getKey(), "Map keys must be strings.");
+                writeUtf8((String) entry.getKey());
+                writeNested(entry.getValue());
+            }
+            return this;
+        }
+        throw new IllegalArgumentException("Unsupported argument type: " + value.getClass().getName());
+    }
+
+    /**
+     * 获取二进制参数帧
+     *
+     * @return 二进制参数帧
+     */
+    public byte[] toByteArray() {
+        final byte[] header = new byte[7];
+        header[0] = ArgumentFrame.MAGIC;
+        header[1] = ArgumentFrame.VERSION;
+        int headerLength = 2;
+        int value = count;
+        while ((value & ~0x7F) != 0) {
+            header[headerLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        header[headerLength++] = (byte) value;
+        final byte[] frame = Arrays.copyOf(header, headerLength + position);
+        System.arraycopy(buffer, 0, frame, headerLength, position);
+        return frame;
+    }
+
+    /*
+     * 写入列表元素或映射的值，不计入参数个数
+     */
+    private void writeNested(Object value) {
+        final int currentCount = count;
+        writeValue(value);
+        count = currentCount;
+    }
+
+    private ArgumentFrameWriter writeTag(byte tag) {
+        ensureCapacity(1);
+        buffer[position++] = tag;
+        count++;
+        return this;
+    }
+
+    private void writeUtf8(String value) {
+        writeRaw(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeRaw(byte[] value) {
+        writeVarLong(value.length);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
+
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.json.JSONUtil;
+
+/**
+ * UTF-8编码的字节参数源，每个参数值是一个字节数组片段
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:00
+ */
+final class ByteArrayParamSource extends ParamSource {
+    // 解析json时使用的UTF-8解码器，每个线程一个，非法字节与get()一致替换为替换字符
+    private static final ThreadLocal<CharsetDecoder> DECODER = ThreadLocal.withInitial(
+        () -> StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    private final byte[][] arrays;
+
+    private final int[] offsets;
+
+    private final int[] lengths;
+
+    ByteArrayParamSource(byte[][] arrays, int[] offsets, int[] lengths) {
+        this.arrays = arrays;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    @Override
+    public int size() {
+        return arrays.length;
+    }
+
+    @Override
+    public String get(int index) {
+        return new String(arrays[index], offsets[index], lengths[index], StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object castSimple(int index, Class<?> type) {
+        return TypeCastUtil.castSimple(arrays[index], offsets[index], lengths[index], type);
+    }
+
+    @Override
+    public boolean isTypeJSON(int index) {
+        final byte[] bytes = arrays[index];
+        int start = offsets[index];
+        int end = start + lengths[index] - 1;
+        while (start <= end && isBlank(bytes[start])) {
+            start++;
+        }
+        while (end > start && isBlank(bytes[end])) {
+            end--;
+        }
+        // 首尾是多字节字符时可能是Unicode空白字符，解码后判断
+        if (start <= end && (bytes[start] < 0 || bytes[end] < 0)) {
+            return JSONUtil.isTypeJSON(get(index));
+        }
+        return end > start && isJsonWrap(bytes[start], bytes[end]);
+    }
+
+    @Override
+    public Object parseJson(int index) {
+        return JSON.parse(arrays[index], offsets[index], lengths[index], DECODER.get(),
+            JSON.DEFAULT_PARSER_FEATURE);
+    }
+
+    private static boolean isBlank(byte value) {
+        return value >= 0 && CharUtil.isBlankChar(value);
+    }
+}
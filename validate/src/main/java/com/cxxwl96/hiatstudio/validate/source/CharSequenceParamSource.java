@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
+
+import java.util.List;
+
+import cn.hutool.core.util.CharUtil;
+
+/**
+ * 字符序列参数源
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:00
+ */
+final class CharSequenceParamSource extends ParamSource {
+    private final List<? extends CharSequence> values;
+
+    CharSequenceParamSource(List<? extends CharSequence> values) {
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public String get(int index) {
+        final CharSequence value = values.get(index);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public Object castSimple(int index, Class<?> type) {
+        final CharSequence value = values.get(index);
+        return value == null ? null : TypeCastUtil.castSimple(value, type);
+    }
+
+    @Override
+    public boolean isTypeJSON(int index) {
+        final CharSequence value = values.get(index);
+        if (value == null) {
+            return false;
+        }
+        int start = 0;
+        int end = value.length() - 1;
+        while (start <= end && CharUtil.isBlankChar(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && CharUtil.isBlankChar(value.charAt(end))) {
+            end--;
+        }
+        return end > start && isJsonWrap(value.charAt(start), value.charAt(end));
+    }
+
+    @Override
+    public Object parseJson(int index) {
+        return JSON.parse(get(index));
+    }
+}
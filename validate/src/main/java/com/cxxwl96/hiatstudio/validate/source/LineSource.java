@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 按行读取的惰性参数源
+ * 用于@ListParam接收大文件等大量参数：按行流式读取，不会把所有行加载到内存中。
+ * 作为List&lt;String&gt;时只支持顺序遍历，get(index)与size()都需要遍历，可重复读取的参数源（如文件）会缓存行数；
+ * 只能读取一次的参数源（如输入流）只能遍历一次，并且在遍历前无法获取行数，以List、Iterable参数接收时复制为列表，
+ * 需要流式处理时应以Stream、Iterator参数接收
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:30
+ */
+public abstract class LineSource extends AbstractList<String> implements Closeable {
+    /**
+     * 通过内存映射按行读取UTF-8编码的文件，可以重复遍历
+     *
+     * @param path 文件路径
+     * @return 按行读取的参数源
+     * @throws UncheckedIOException 文件读取失败
+     */
+    public static LineSource of(Path path) {
+        Assert.notNull(path, "path cannot be null.");
+        try {
+            return new MappedLineSource(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * 按行读取UTF-8编码的输入流，只能遍历一次，遍历结束或关闭时关闭输入流
+     *
+     * @param inputStream 输入流
+     * @return 按行读取的参数源
+     */
+    public static LineSource of(InputStream inputStream) {
+        Assert.notNull(inputStream, "inputStream cannot be null.");
+        return new StreamLineSource(inputStream);
+    }
+
+    /**
+     * 是否可以重复遍历
+     *
+     * @return 是否可以重复遍历
+     */
+    public abstract boolean isRepeatable();
+
+    /**
+     * 按行遍历
+     *
+     * @return 行迭代器
+     */
+    @Override
+    public abstract Iterator<String> iterator();
+
+    /**
+     * 获取第index行，需要从头遍历，只用于少量的随机访问
+     *
+     * @param index 行索引
+     * @return 行
+     */
+    @Override
+    public String get(int index) {
+        if (index >= 0) {
+            int current = 0;
+            for (String line : this) {
+                if (current++ == index) {
+                    return line;
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    /**
+     * 限制行数的视图，遍历时校验行数，用于只能读取一次的参数源
+     *
+     * @param expectedSize 期望的行数
+     * @return 遍历时校验行数的参数源
+     */
+    public LineSource expectSize(int expectedSize) {
+        return new SizeCheckedLineSource(this, expectedSize);
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        // 行数未知，避免默认实现在创建时调用size()
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+}
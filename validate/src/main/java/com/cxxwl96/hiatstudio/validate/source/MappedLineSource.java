@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 通过内存映射按行读取的文件，超过2GB的文件按1GB分段映射。映射的内存不占用堆，行在遍历时才解码
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:30
+ */
+final class MappedLineSource extends LineSource {
+    private static final int REGION_SHIFT = 30;
+
+    private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+
+    private final MappedByteBuffer[] regions;
+
+    private final long length;
+
+    // 缓存的行数，未统计时为-1
+    private volatile int size = -1;
+
+    MappedLineSource(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.length = channel.size();
+            this.regions = new MappedByteBuffer[(int) ((length + REGION_MASK) >>> REGION_SHIFT)];
+            for (int index = 0; index < regions.length; index++) {
+                final long position = (long) index << REGION_SHIFT;
+                regions[index] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(REGION_MASK + 1, length - position));
+            }
+        }
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            int lines = 0;
+            for (long position = 0; position < length; position++) {
+                if (byteAt(position) == '\n') {
+                    lines++;
+                }
+            }
+            // 最后一行没有换行符
+            if (length > 0 && byteAt(length - 1) != '\n') {
+                lines++;
+            }
+            size = lines;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private long position;
+
+            private byte[] line = new byte[128];
+
+            @Override
+            public boolean hasNext() {
+                return position < length;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int lineLength = 0;
+                while (position < length) {
+                    final byte current = byteAt(position++);
+                    if (current == '\n') {
+                        break;
+                    }
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, lineLength << 1);
+                    }
+                    line[lineLength++] = current;
+                }
+                if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                return new String(line, 0, lineLength, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    private byte byteAt(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)].get((int) (position & REGION_MASK));
+    }
+}
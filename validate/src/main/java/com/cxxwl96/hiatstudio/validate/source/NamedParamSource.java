@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 命名参数源
+ * 如HTTP的查询参数、表单参数，按名称接收参数（@BasicParam(name)、@JsonParam(name)、@BeanParam的字段名）。
+ * 作为List&lt;String&gt;时按参数的输入顺序访问，按名称查找时使用方法的参数名槽位表，每个请求只解析一次参数名的位置
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:30
+ */
+public final class NamedParamSource extends ParamSource {
+    // 每个参数值的参数名
+    private final String[] names;
+
+    // 参数值
+    private final ParamSource values;
+
+    // 最近一次解析的参数名位置
+    private volatile Resolution resolution;
+
+    private NamedParamSource(String[] names, ParamSource values) {
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * 命名参数源，参数顺序与Map的遍历顺序一致
+     *
+     * @param values 参数名与参数值
+     * @return 命名参数源
+     */
+    public static NamedParamSource of(Map<String, ? extends CharSequence> values) {
+        Assert.notNull(values, "values cannot be null.");
+        final String[] names = new String[values.size()];
+        final CharSequence[] paramValues = new CharSequence[values.size()];
+        int index = 0;
+        for (Map.Entry<String, ? extends CharSequence> entry : values.entrySet()) {
+            names[index] = entry.getKey();
+            paramValues[index++] = entry.getValue();
+        }
+        return of(names, ParamSource.of(paramValues));
+    }
+
+    /**
+     * 命名参数源，参数值可以是任意参数源（如UTF-8字节参数源）
+     *
+     * @param names 每个参数值的参数名，重复的参数名取第一个
+     * @param values 参数值
+     * @return 命名参数源
+     */
+    public static NamedParamSource of(String[] names, ParamSource values) {
+        Assert.noNullElements(names, "names cannot contain null.");
+        Assert.notNull(values, "values cannot be null.");
+        Assert.isTrue(names.length == values.size(), "names and values must have the same size.");
+        return new NamedParamSource(names.clone(), values);
+    }
+
+    /**
+     * 获取参数名对应的参数值的位置
+     *
+     * @param nameTable 方法的参数名槽位表
+     * @param name 参数名
+     * @return 参数值的位置，参数不存在时返回-1
+     */
+    public int indexOf(ParamNameTable nameTable, String name) {
+        final int slot = nameTable.slotOf(name);
+        if (slot < 0) {
+            return Arrays.asList(names).indexOf(name);
+        }
+        Resolution current = resolution;
+        if (current == null || current.nameTable != nameTable) {
+            current = resolve(nameTable);
+            resolution = current;
+        }
+        return current.positions[slot];
+    }
+
+    /**
+     * 获取参数值的参数名
+     *
+     * @param index 参数值的位置
+     * @return 参数名
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public String get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public Object getValue(int index) {
+        return values.getValue(index);
+    }
+
+    @Override
+    public Object castSimple(int index, Class<?> type) {
+        return values.castSimple(index, type);
+    }
+
+    @Override
+    public boolean isTypeJSON(int index) {
+        return values.isTypeJSON(index);
+    }
+
+    @Override
+    public Object parseJson(int index) {
+        return values.parseJson(index);
+    }
+
+    /*
+     * 按槽位表解析每个参数名的位置，只遍历一次输入的参数
+     */
+    private Resolution resolve(ParamNameTable nameTable) {
+        final int[] positions = new int[nameTable.size()];
+        Arrays.fill(positions, -1);
+        for (int index = 0; index < names.length; index++) {
+            final int slot = nameTable.slotOf(names[index]);
+            if (slot >= 0 && positions[slot] < 0) {
+                positions[slot] = index;
+            }
+        }
+        return new Resolution(nameTable, positions);
+    }
+
+    private static final class Resolution {
+        private final ParamNameTable nameTable;
+
+        private final int[] positions;
+
+        private Resolution(ParamNameTable nameTable, int[] positions) {
+            this.nameTable = nameTable;
+            this.positions = positions;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 参数名槽位表
+ * 每个方法只构建一次，为方法使用的每个参数名分配一个槽位。
+ * 构建时扩大表的容量直到所有参数名的哈希互不冲突，查找参数名的槽位通常只需要一次数组访问和一次equals
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:30
+ */
+public final class ParamNameTable {
+    // 没有任何参数名的槽位表
+    public static final ParamNameTable EMPTY = new ParamNameTable(new String[0]);
+
+    // 查找无冲突的容量时，容量与参数名个数的最大倍数，超过后使用线性探测
+    private static final int MAX_LOAD_FACTOR_INVERSE = 64;
+
+    // 每个槽位的参数名
+    private final String[] names;
+
+    // 哈希表，存放槽位 + 1，0表示空
+    private final int[] table;
+
+    private final int mask;
+
+    private ParamNameTable(String[] names) {
+        this.names = names;
+        int capacity = Integer.highestOneBit(Math.max(names.length, 1) * 2 - 1) << 1;
+        while (capacity < names.length * MAX_LOAD_FACTOR_INVERSE && hasCollision(names, capacity)) {
+            capacity <<= 1;
+        }
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        for (int slot = 0; slot < names.length; slot++) {
+            int bucket = spread(names[slot].hashCode()) & mask;
+            while (table[bucket] != 0) {
+                bucket = (bucket + 1) & mask;
+            }
+            table[bucket] = slot + 1;
+        }
+    }
+
+    /**
+     * 构建参数名槽位表，重复的参数名只分配一个槽位
+     *
+     * @param names 参数名
+     * @return 参数名槽位表
+     */
+    public static ParamNameTable of(String... names) {
+        Assert.noNullElements(names, "names cannot contain null.");
+        final Set<String> distinctNames = new LinkedHashSet<>(Arrays.asList(names));
+        return distinctNames.isEmpty() ? EMPTY : new ParamNameTable(distinctNames.toArray(new String[0]));
+    }
+
+    /**
+     * 获取槽位个数
+     *
+     * @return 槽位个数
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 获取槽位的参数名
+     *
+     * @param slot 槽位
+     * @return 参数名
+     */
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * 获取参数名的槽位
+     *
+     * @param name 参数名
+     * @return 槽位，参数名不存在时返回-1
+     */
+    public int slotOf(String name) {
+        int bucket = spread(name.hashCode()) & mask;
+        int slot;
+        while ((slot = table[bucket]) != 0) {
+            if (names[slot - 1].equals(name)) {
+                return slot - 1;
+            }
+            bucket = (bucket + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static boolean hasCollision(String[] names, int capacity) {
+        final boolean[] used = new boolean[capacity];
+        for (String name : names) {
+            final int bucket = spread(name.hashCode()) & (capacity - 1);
+            if (used[bucket]) {
+                return true;
+            }
+            used[bucket] = true;
+        }
+        return false;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import cn.hutool.core.lang.Assert;
+
+/**
+ * 输入参数源
+ * 以List&lt;String&gt;的形式提供给ValidationMetadata，参数值可以是CharSequence视图、UTF-8编码的byte[]、ByteBuffer片段或二进制参数帧。
+ * 校验处理器按索引读取参数，整数、布尔值及JSON直接从字符或字节中解析，只有需要字符串时才会解码
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:00
+ */
+public abstract class ParamSource extends AbstractList<String> implements RandomAccess {
+    /**
+     * 字符序列参数源
+     *
+     * @param values 参数值
+     * @return 参数源
+     */
+    public static ParamSource of(CharSequence... values) {
+        Assert.notNull(values, "values cannot be null.");
+        return new CharSequenceParamSource(Arrays.asList(values));
+    }
+
+    /**
+     * 字符序列参数源
+     *
+     * @param values 参数值
+     * @return 参数源
+     */
+    public static ParamSource of(List<? extends CharSequence> values) {
+        Assert.notNull(values, "values cannot be null.");
+        return new CharSequenceParamSource(values);
+    }
+
+    /**
+     * UTF-8编码的字节数组参数源
+     *
+     * @param values 参数值
+     * @return 参数源
+     */
+    public static ParamSource ofBytes(byte[]... values) {
+        Assert.notNull(values, "values cannot be null.");
+        final int[] offsets = new int[values.length];
+        final int[] lengths = new int[values.length];
+        for (int index = 0; index < values.length; index++) {
+            Assert.notNull(values[index], "values[{}] cannot be null.", index);
+            lengths[index] = values[index].length;
+        }
+        return new ByteArrayParamSource(values, offsets, lengths);
+    }
+
+    /**
+     * 同一个UTF-8编码的字节数组中的多个参数值片段，如网络层接收到的一帧数据
+     *
+     * @param buffer 字节数组
+     * @param offsets 每个参数值的起始位置
+     * @param lengths 每个参数值的字节长度
+     * @return 参数源
+     */
+    public static ParamSource ofBytes(byte[] buffer, int[] offsets, int[] lengths) {
+        Assert.notNull(buffer, "buffer cannot be null.");
+        Assert.isTrue(offsets.length == lengths.length, "offsets and lengths must have the same length.");
+        final byte[][] arrays = new byte[offsets.length][];
+        for (int index = 0; index < offsets.length; index++) {
+            Assert.checkBetween(offsets[index], 0, buffer.length);
+            Assert.checkBetween(lengths[index], 0, buffer.length - offsets[index]);
+            arrays[index] = buffer;
+        }
+        return new ByteArrayParamSource(arrays, offsets.clone(), lengths.clone());
+    }
+
+    /**
+     * UTF-8编码的ByteBuffer参数源，读取position到limit之间的数据，不会改变ByteBuffer的position。
+     * 堆内ByteBuffer直接使用其底层数组，堆外ByteBuffer需要复制一次
+     *
+     * @param values 参数值
+     * @return 参数源
+     */
+    public static ParamSource ofBuffers(ByteBuffer... values) {
+        Assert.notNull(values, "values cannot be null.");
+        final byte[][] arrays = new byte[values.length][];
+        final int[] offsets = new int[values.length];
+        final int[] lengths = new int[values.length];
+        for (int index = 0; index < values.length; index++) {
+            final ByteBuffer buffer = values[index];
+            Assert.notNull(buffer, "values[{}] cannot be null.", index);
+            lengths[index] = buffer.remaining();
+            if (buffer.hasArray()) {
+                arrays[index] = buffer.array();
+                offsets[index] = buffer.arrayOffset() + buffer.position();
+            } else {
+                arrays[index] = new byte[lengths[index]];
+                buffer.duplicate().get(arrays[index]);
+            }
+        }
+        return new ByteArrayParamSource(arrays, offsets, lengths);
+    }
+
+    /**
+     * 二进制参数帧参数源，格式见ArgumentFrameWriter
+     *
+     * @param frame 二进制参数帧
+     * @return 参数源
+     * @throws IllegalArgumentException 参数帧格式错误
+     */
+    public static ParamSource ofFrame(byte[] frame) {
+        Assert.notNull(frame, "frame cannot be null.");
+        return new TypedParamSource(ArgumentFrameReader.read(frame));
+    }
+
+    /**
+     * 二进制参数帧参数源，读取position到limit之间的数据，不会改变ByteBuffer的position
+     *
+     * @param frame 二进制参数帧
+     * @return 参数源
+     * @throws IllegalArgumentException 参数帧格式错误
+     */
+    public static ParamSource ofFrame(ByteBuffer frame) {
+        Assert.notNull(frame, "frame cannot be null.");
+        if (frame.hasArray()) {
+            return new TypedParamSource(ArgumentFrameReader.read(frame.array(), frame.arrayOffset() + frame.position(),
+                frame.remaining()));
+        }
+        final byte[] bytes = new byte[frame.remaining()];
+        frame.duplicate().get(bytes);
+        return new TypedParamSource(ArgumentFrameReader.read(bytes));
+    }
+
+    /**
+     * 参数值的快照，只保留指定位置的参数值，其他位置为null，参数个数及命名参数源的参数名与输入的参数一致。
+     * 延迟转换的参数使用快照，不必持有输入的参数（如可能被复用的网络缓冲区）；字节参数值解码为字符串，参数帧中的参数值保持原本的类型
+     *
+     * @param paramValues 输入的参数值
+     * @param slots 需要保留的参数值的位置，越界的位置忽略
+     * @return 参数值的快照
+     */
+    public static List<String> snapshot(List<String> paramValues, int[] slots) {
+        final int size = paramValues.size();
+        if (!(paramValues instanceof ParamSource)) {
+            final String[] values = new String[size];
+            for (int slot : slots) {
+                if (slot >= 0 && slot < size) {
+                    values[slot] = paramValues.get(slot);
+                }
+            }
+            return Arrays.asList(values);
+        }
+        final ParamSource source = (ParamSource) paramValues;
+        final Object[] values = new Object[size];
+        for (int slot : slots) {
+            if (slot >= 0 && slot < size) {
+                values[slot] = source.getValue(slot);
+            }
+        }
+        // 字符串参数值按带类型的参数源读取时与字符序列参数源一致
+        final ParamSource snapshot = new TypedParamSource(Arrays.asList(values));
+        if (!(source instanceof NamedParamSource)) {
+            return snapshot;
+        }
+        final String[] names = new String[size];
+        for (int index = 0; index < size; index++) {
+            names[index] = ((NamedParamSource) source).getName(index);
+        }
+        return NamedParamSource.of(names, snapshot);
+    }
+
+    /**
+     * 获取参数值的字符串形式，字节参数值会进行解码
+     *
+     * @param index 参数索引
+     * @return 参数值的字符串
+     */
+    @Override
+    public abstract String get(int index);
+
+    /**
+     * 获取参数值，二进制参数帧中的参数值为其原本的类型，其他参数源为字符串
+     *
+     * @param index 参数索引
+     * @return 参数值
+     */
+    public Object getValue(int index) {
+        return get(index);
+    }
+
+    /**
+     * 直接从参数值中转换十进制整数及布尔值
+     *
+     * @param index 参数索引
+     * @param type 需要转换的类型
+     * @return 转换之后的对象，不支持快速转换时返回null
+     * @see com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil
+     */
+    public abstract Object castSimple(int index, Class<?> type);
+
+    /**
+     * 参数值是否是JSON对象或JSON数组，与JSONUtil.isTypeJSON()一致
+     *
+     * @param index 参数索引
+     * @return 是否是JSON
+     */
+    public abstract boolean isTypeJSON(int index);
+
+    /**
+     * 直接从参数值中解析JSON，与JSON.parse()一致
+     *
+     * @param index 参数索引
+     * @return JSONObject或JSONArray
+     */
+    public abstract Object parseJson(int index);
+
+    /*
+     * 首尾字符是否是JSON对象或JSON数组的包装符号
+     */
+    static boolean isJsonWrap(int first, int last) {
+        return first == '{' && last == '}' || first == '[' && last == ']';
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 遍历时校验行数的参数源，行数与期望的行数不一致时在遍历结束时校验失败
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:30
+ */
+final class SizeCheckedLineSource extends LineSource {
+    private final LineSource source;
+
+    private final int expectedSize;
+
+    SizeCheckedLineSource(LineSource source, int expectedSize) {
+        this.source = source;
+        this.expectedSize = expectedSize;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return source.isRepeatable();
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        final Iterator<String> iterator = source.iterator();
+        return new Iterator<String>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!hasNext && count != expectedSize) {
+                    throw sizeError(count);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (count == expectedSize) {
+                    // 统计剩余的行数，使错误消息中的行数准确
+                    int actualSize = count;
+                    while (iterator.hasNext()) {
+                        iterator.next();
+                        actualSize++;
+                    }
+                    throw sizeError(actualSize);
+                }
+                count++;
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private IllegalArgumentException sizeError(int actualSize) {
+        return new IllegalArgumentException(String.format(Locale.ROOT,
+            "The number of parameters is not equal. %d parameters are expected, but %d parameters are obtained.",
+            expectedSize, actualSize));
+    }
+}
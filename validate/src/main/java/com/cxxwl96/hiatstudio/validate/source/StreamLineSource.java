@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 按行读取的输入流，只能遍历一次
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:30
+ */
+final class StreamLineSource extends LineSource {
+    private final BufferedReader reader;
+
+    private final AtomicBoolean iterated = new AtomicBoolean();
+
+    StreamLineSource(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException("The size of a one-shot line source is unknown before iteration.");
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        if (!iterated.compareAndSet(false, true)) {
+            throw new IllegalStateException("The line source can only be iterated once.");
+        }
+        return new Iterator<String>() {
+            private String next = readLine();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final String current = next;
+                next = readLine();
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /*
+     * 读取下一行，读取结束时关闭输入流
+     */
+    private String readLine() {
+        try {
+            final String line = reader.readLine();
+            if (line == null) {
+                reader.close();
+            }
+            return line;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
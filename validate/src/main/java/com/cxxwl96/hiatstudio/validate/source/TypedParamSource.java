@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.source;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.json.JSONUtil;
+
+/**
+ * 带类型的参数源，参数值保持二进制参数帧中的原本类型
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:00
+ */
+final class TypedParamSource extends ParamSource {
+    private final List<Object> values;
+
+    TypedParamSource(List<Object> values) {
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 获取参数值的文本形式：字节数组为Base64，列表与映射为JSON
+     *
+     * @param index 参数索引
+     * @return 参数值的字符串
+     */
+    @Override
+    public String get(int index) {
+        final Object value = values.get(index);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) value);
+        }
+        if (value instanceof List || value instanceof Map) {
+            return JSON.toJSONString(value);
+        }
+        return value.toString();
+    }
+
+    @Override
+    public Object getValue(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public Object castSimple(int index, Class<?> type) {
+        final Object value = values.get(index);
+        if (value instanceof String) {
+            return TypeCastUtil.castSimple((CharSequence) value, type);
+        }
+        // 类型一致时直接使用，其他类型由fastjson从原本的类型转换
+        return BasicType.wrap(type).isInstance(value) ? value : null;
+    }
+
+    @Override
+    public boolean isTypeJSON(int index) {
+        final Object value = values.get(index);
+        if (value instanceof String) {
+            return JSONUtil.isTypeJSON((String) value);
+        }
+        return value instanceof List || value instanceof Map;
+    }
+
+    @Override
+    public Object parseJson(int index) {
+        final Object value = values.get(index);
+        return value instanceof String ? JSON.parse((String) value) : value;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 基本数据类型列表工具类
+ * 以基本数据类型数组作为存储的只读列表，每个元素只占用基本数据类型的空间，只在get()时装箱
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 21:00
+ */
+public final class PrimitiveListUtil {
+    private PrimitiveListUtil() {
+    }
+
+    /**
+     * int数组的只读列表
+     *
+     * @param values int数组
+     * @return 只读列表
+     */
+    public static List<Integer> asList(int[] values) {
+        return new IntList(values);
+    }
+
+    /**
+     * long数组的只读列表
+     *
+     * @param values long数组
+     * @return 只读列表
+     */
+    public static List<Long> asList(long[] values) {
+        return new LongList(values);
+    }
+
+    /**
+     * double数组的只读列表
+     *
+     * @param values double数组
+     * @return 只读列表
+     */
+    public static List<Double> asList(double[] values) {
+        return new DoubleList(values);
+    }
+
+    private static final class IntList extends AbstractList<Integer> implements RandomAccess {
+        private final int[] values;
+
+        private IntList(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static final class LongList extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        private LongList(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static final class DoubleList extends AbstractList<Double> implements RandomAccess {
+        private final double[] values;
+
+        private DoubleList(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.utils;
+
+/**
+ * 简单类型转换工具类
+ * 十进制整数及布尔值字符串直接转换，转换结果与fastjson的TypeUtils.cast()一致，但不会像TypeUtils一样每次转换都进行正则匹配并分配对象
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:40
+ */
+public final class TypeCastUtil {
+    /**
+     * 不是十进制整数。最多转换18位数字，不会出现该值
+     */
+    public static final long NOT_DECIMAL = Long.MIN_VALUE;
+
+    private TypeCastUtil() {
+    }
+
+    /**
+     * 简单类型转换
+     *
+     * @param value 需要转换的数据
+     * @param type 需要转换的类型
+     * @return 转换之后的对象，不支持快速转换时返回null
+     */
+    public static Object castSimple(Object value, Class<?> type) {
+        if (!(value instanceof String)) {
+            return null;
+        }
+        // 字符串无需转换
+        return type == String.class ? value : castSimple((CharSequence) value, type);
+    }
+
+    /**
+     * 字符序列的简单类型转换，直接读取字符，不会创建字符串
+     *
+     * @param text 需要转换的字符序列
+     * @param type 需要转换的类型
+     * @return 转换之后的对象，不支持快速转换时返回null
+     */
+    public static Object castSimple(CharSequence text, Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return toInteger(parseDecimal(text, 9));
+        }
+        if (type == long.class || type == Long.class) {
+            return toLong(parseDecimal(text, 18));
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            if (contentEquals(text, "true")) {
+                return Boolean.TRUE;
+            }
+            return contentEquals(text, "false") ? Boolean.FALSE : null;
+        }
+        return null;
+    }
+
+    /**
+     * UTF-8字节的简单类型转换，直接读取字节，不会解码为字符串
+     *
+     * @param bytes 字节数组
+     * @param offset 数据在字节数组中的起始位置
+     * @param length 数据的字节长度
+     * @param type 需要转换的类型
+     * @return 转换之后的对象，不支持快速转换时返回null
+     */
+    public static Object castSimple(byte[] bytes, int offset, int length, Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return toInteger(parseDecimal(bytes, offset, length, 9));
+        }
+        if (type == long.class || type == Long.class) {
+            return toLong(parseDecimal(bytes, offset, length, 18));
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            if (contentEquals(bytes, offset, length, "true")) {
+                return Boolean.TRUE;
+            }
+            return contentEquals(bytes, offset, length, "false") ? Boolean.FALSE : null;
+        }
+        return null;
+    }
+
+    private static Object toInteger(long value) {
+        return value == NOT_DECIMAL ? null : Integer.valueOf((int) value);
+    }
+
+    private static Object toLong(long value) {
+        return value == NOT_DECIMAL ? null : Long.valueOf(value);
+    }
+
+    /**
+     * 解析不会溢出的十进制整数，如-123，不会创建包装类型的对象
+     *
+     * @param text 需要转换的字符序列
+     * @param maxDigits 最多的数字个数，int为9，long为18
+     * @return 十进制整数，不是十进制整数时返回NOT_DECIMAL
+     */
+    public static long parseDecimal(CharSequence text, int maxDigits) {
+        final int length = text.length();
+        final int start = length > 0 && text.charAt(0) == '-' ? 1 : 0;
+        final int digits = length - start;
+        if (digits < 1 || digits > maxDigits) {
+            return NOT_DECIMAL;
+        }
+        long value = 0;
+        for (int index = start; index < length; index++) {
+            final char ch = text.charAt(index);
+            if (ch < '0' || ch > '9') {
+                return NOT_DECIMAL;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return start == 1 ? -value : value;
+    }
+
+    private static long parseDecimal(byte[] bytes, int offset, int length, int maxDigits) {
+        final int start = length > 0 && bytes[offset] == '-' ? 1 : 0;
+        final int digits = length - start;
+        if (digits < 1 || digits > maxDigits) {
+            return NOT_DECIMAL;
+        }
+        long value = 0;
+        for (int index = offset + start; index < offset + length; index++) {
+            final byte ch = bytes[index];
+            if (ch < '0' || ch > '9') {
+                return NOT_DECIMAL;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return start == 1 ? -value : value;
+    }
+
+    private static boolean contentEquals(CharSequence text, String expected) {
+        if (text.length() != expected.length()) {
+            return false;
+        }
+        for (int index = 0; index < expected.length(); index++) {
+            if (text.charAt(index) != expected.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contentEquals(byte[] bytes, int offset, int length, String expected) {
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            if (bytes[offset + index] != expected.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -41,14 +41,16 @@ import cn.hutool.extra.validation.BeanValidationResult;
  */
 public class ValidationUtil {
     /**
-     * 默认{@link Validator} 对象
+     * 默认{@link Validator} 对象，首次使用时才构建，仅格式化错误消息时不会加载hibernate-validator
      */
-    private static final Validator validator;
+    private static final class ValidatorHolder {
+        private static final Validator VALIDATOR = buildValidator();
+    }
 
-    static {
+    private static Validator buildValidator() {
         // 源代码为默认的validatorFactory: validator = Validation.buildDefaultValidatorFactory().getValidator();
         // 这里重新配置默认的Locale
-        validator = Validation.byProvider(HibernateValidator.class).configure()
+        return Validation.byProvider(HibernateValidator.class).configure()
             // 快速失败模式，即有一个失败则不校验后面的属性
             .failFast(true)
             // 设置语言，默认为ENGLISH
@@ -65,7 +67,7 @@ public class ValidationUtil {
      * @return {@link Validator} 对象
      */
     public static Validator getValidator() {
-        return validator;
+        return ValidatorHolder.VALIDATOR;
     }
 
     /**
@@ -77,7 +79,7 @@ public class ValidationUtil {
      * @return {@link Set}
      */
     public static <T> Set<ConstraintViolation<T>> validate(T bean, Class<?>... groups) {
-        return validator.validate(bean, groups);
+        return ValidatorHolder.VALIDATOR.validate(bean, groups);
     }
 
     /**
@@ -90,7 +92,7 @@ public class ValidationUtil {
      * @return {@link Set}
      */
     public static <T> Set<ConstraintViolation<T>> validateProperty(T bean, String propertyName, Class<?>... groups) {
-        return validator.validateProperty(bean, propertyName, groups);
+        return ValidatorHolder.VALIDATOR.validateProperty(bean, propertyName, groups);
     }
 
     /**
@@ -128,14 +130,8 @@ public class ValidationUtil {
         BeanValidationResult result = new BeanValidationResult(constraintViolations.isEmpty());
         for (ConstraintViolation<T> violation : constraintViolations) {
             final String propertyName = violation.getPropertyPath().toString();
-            String errorMessage = violation.getMessage();
-            // 消息与模板消息相同时说明自定义填写了错误消息，反之不相同说明未填写错误消息
-            if (!violation.getMessage().equals(violation.getMessageTemplate())) {
-                // 错误消息默认带上属性名，若为语言不为zh时添加空格
-                final boolean notZh = !"zh".equals(ApplicationUtil.getLocale().getLanguage());
-                errorMessage = String.format(Locale.ROOT, "%s%s%s, %s: %s.", propertyName, notZh ? " " : StrUtil.EMPTY,
-                    violation.getMessage(), notZh ? "invalid value" : "无效的值", violation.getInvalidValue());
-            }
+            final String errorMessage = formatErrorMessage(propertyName, violation.getMessage(),
+                violation.getMessageTemplate(), violation.getInvalidValue());
             BeanValidationResult.ErrorMessage errorBean = new BeanValidationResult.ErrorMessage();
             errorBean.setPropertyName(propertyName);
             errorBean.setMessage(errorMessage);
@@ -145,5 +141,25 @@ public class ValidationUtil {
         return result;
     }
 
+    /**
+     * 格式化校验错误消息
+     *
+     * @param propertyName 属性名称
+     * @param message 插值后的错误消息
+     * @param messageTemplate 错误消息模板
+     * @param invalidValue 无效的值
+     * @return 错误消息
+     */
+    public static String formatErrorMessage(String propertyName, String message, String messageTemplate,
+        Object invalidValue) {
+        // 消息与模板消息相同时说明自定义填写了错误消息，反之不相同说明未填写错误消息
+        if (message.equals(messageTemplate)) {
+            return message;
+        }
+        // 错误消息默认带上属性名，若为语言不为zh时添加空格
+        final boolean notZh = !"zh".equals(ApplicationUtil.getLocale().getLanguage());
+        return String.format(Locale.ROOT, "%s%s%s, %s: %s.", propertyName, notZh ? " " : StrUtil.EMPTY, message,
+            notZh ? "invalid value" : "无效的值", invalidValue);
+    }
 }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.res;
+
+import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.annotations.DeterministicValidator;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GateValidatorHandler
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:50
+ */
+@DeterministicValidator
+public class GateValidatorHandler implements CustomValidatorHandler {
+    // 执行次数
+    public static final AtomicInteger COUNT = new AtomicInteger();
+
+    // 不为null时校验在此等待，直到测试放行
+    public static volatile CountDownLatch gate;
+
+    /**
+     * 自定义校验处理
+     *
+     * @param paramValues 入参参数
+     * @param chain 校验链
+     * @throws IllegalArgumentException 参数校验异常
+     */
+    @Override
+    public void handle(List<String> paramValues, ValidationChain chain) throws IllegalArgumentException {
+        COUNT.incrementAndGet();
+        final CountDownLatch latch = gate;
+        if (latch != null) {
+            try {
+                latch.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
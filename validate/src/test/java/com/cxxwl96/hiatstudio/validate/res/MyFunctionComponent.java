@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.res;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.ast.EnableInjectDocument;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * MyFunctionComponent
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 15:55
+ */
+@EnableInjectDocument(FunctionInterface.class)
+public class MyFunctionComponent extends AbstractComponent {
+    /**
+     * @hi-description 两数相加
+     * @hi-param a 第一个数，取值范围0~100
+     * @hi-param b 第二个数
+     * @hi-return 两数之和
+     * @hi-param-example ["1","2"]
+     */
+    @ParamValidator(size = 2)
+    @FunctionInterface(name = "add", desc = "两数相加", paramExample = "[\"1\",\"2\"]")
+    private int add(@BasicParam(index = 0) @Min(0) @Max(100) int a, @BasicParam(index = 1) int b) {
+        return a + b;
+    }
+
+    // 参数a只能按名称接收，参数示例是按位置的JSON字符串数组，无法表达，因此不提供参数示例
+    @FunctionInterface(name = "subtract")
+    private int subtract(@BasicParam(name = "a") @Min(0) int a, @BasicParam(index = 1, name = "b") int b) {
+        return a - b;
+    }
+
+    @ParamValidator(customValidatorHandler = GateValidatorHandler.class)
+    @FunctionInterface(name = "square", paramExample = "[\"3\"]")
+    private int square(@BasicParam(index = 0) int a) {
+        return a * a;
+    }
+
+    @FunctionInterface(name = "json", paramExample = "[\"{\\\"key1\\\":\\\"value1\\\",\\\"key2\\\":[\\\"value2\\\"]}\"]")
+    private String json(@JsonParam(index = 0) JsonObject jsonObject) {
+        return jsonObject.getKey1();
+    }
+
+    @ParamValidator(customValidatorHandler = GateValidatorHandler.class)
+    @FunctionInterface(name = "gatedJson", paramExample = "[\"{\\\"key1\\\":\\\"value1\\\"}\"]")
+    private String gatedJson(@JsonParam(index = 0) JsonObject jsonObject) {
+        return jsonObject.getKey1();
+    }
+
+    @ParamValidator(customValidatorHandler = GateValidatorHandler.class)
+    @FunctionInterface(name = "gatedSubtract")
+    private int gatedSubtract(@BasicParam(name = "a") int a, @BasicParam(name = "b") int b) {
+        return a - b;
+    }
+
+    @FunctionInterface(name = "bean",
+        paramExample = "[\"cyk\",\"18\",\"true\",\"39793666111\",\"[\\\"贵州\\\"]\",\"{\\\"key1\\\":\\\"value1\\\",\\\"key2\\\":[\\\"value2\\\"]}\"]")
+    private String bean(@BeanParam(size = 6) MyBeanParam beanParam) {
+        return beanParam.getName();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.res;
+
+import com.cxxwl96.hiatstudio.validate.CustomValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.annotations.IndependentValidator;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+
+/**
+ * 由测试设置行为的相互独立的自定义校验处理器，记录调用次数与执行线程
+ *
+ * @author cxxwl96
+ * @since 2026/10/20 10:30
+ */
+public abstract class ScriptedValidatorHandler implements CustomValidatorHandler {
+    private final AtomicInteger count = new AtomicInteger();
+
+    // 最近一次执行的线程
+    @Getter
+    private volatile Thread thread;
+
+    private volatile Script script = (paramValues, chain) -> {
+    };
+
+    /**
+     * 设置校验行为
+     *
+     * @param script 校验行为
+     * @return ScriptedValidatorHandler
+     */
+    public ScriptedValidatorHandler script(Script script) {
+        this.script = script;
+        return this;
+    }
+
+    /**
+     * 获取调用次数
+     *
+     * @return 调用次数
+     */
+    public int getCount() {
+        return count.get();
+    }
+
+    @Override
+    public void handle(List<String> paramValues, ValidationChain chain) throws IllegalArgumentException {
+        count.incrementAndGet();
+        thread = Thread.currentThread();
+        script.run(paramValues, chain);
+    }
+
+    /**
+     * 校验行为
+     */
+    @FunctionalInterface
+    public interface Script {
+        void run(List<String> paramValues, ValidationChain chain);
+    }
+
+    @IndependentValidator
+    public static class First extends ScriptedValidatorHandler {
+    }
+
+    @IndependentValidator
+    public static class Second extends ScriptedValidatorHandler {
+    }
+
+    @IndependentValidator
+    public static class Third extends ScriptedValidatorHandler {
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.Validation;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinders;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.In;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ClassLoaderUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * AllocationBudgetTest
+ * 校验热路径每次校验分配的字节数不能超过预算（预算约为实测值的110%~120%），重新引入每次校验的反射对象、ElementMetadata/ValidationChain的创建或者动态生成类时测试失败
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 22:40
+ */
+public class AllocationBudgetTest {
+    // 预热次数，使校验热路径完成JIT编译
+    private static final int WARMUP = 20000;
+
+    // 每轮测量次数
+    private static final int MEASUREMENT = 5000;
+
+    // 测量轮数，取最小值，排除测量期间JIT编译、逆优化等偶发的分配
+    private static final int ROUNDS = 3;
+
+    // 测量线程分配的字节数，只有HotSpot等提供了com.sun.management.ThreadMXBean的JVM才可以测量
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    private static FunctionRegistry registry;
+
+    @BeforeClass
+    public static void setup() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        // 不支持测量线程分配的字节数的JVM跳过测试
+        Assume.assumeTrue(ClassLoaderUtil.isPresent("com.sun.management.ThreadMXBean")
+            && bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        // 开启运行时编译，预热时编译参数绑定器
+        FunctionBinders.setCompileThreshold(1000);
+        registry = new FunctionRegistry().register(MyFunctionComponent.class).warmup(1);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        FunctionBinders.setCompileThreshold(0);
+    }
+
+    @Test
+    public void testBasicParam() {
+        final List<String> paramValues = CollUtil.newArrayList("1", "2");
+        // 编译期生成的参数绑定器
+        assertBudget("add", 80, function("add", paramValues));
+        assertBudget("add(interpreted)", 400, interpreted(MyFunctionComponent.class, "add", paramValues));
+        // 自定义约束回退到hibernate-validator校验，动态bean类型只生成一次
+        assertBudget("in(interpreted)", 704,
+            interpreted(AllocationBudgetTest.class, "inMethod", CollUtil.newArrayList("1")));
+    }
+
+    @Test
+    public void testJsonParam() {
+        final List<String> paramValues = CollUtil.newArrayList("{\"key1\":\"value1\",\"key2\":[\"value2\"]}");
+        // 运行时编译的参数绑定器
+        assertBudget("json", 2240, function("json", paramValues));
+        assertBudget("json(interpreted)", 2176, interpreted(MyFunctionComponent.class, "json", paramValues));
+    }
+
+    @Test
+    public void testBeanParam() {
+        final List<String> paramValues = CollUtil.newArrayList("cyk", "18", "true", "39793666111", "[\"贵州\"]",
+            "{\"key1\":\"value1\",\"key2\":[\"value2\"]}");
+        assertBudget("bean", 7936, function("bean", paramValues));
+        assertBudget("bean(interpreted)", 7424, interpreted(MyFunctionComponent.class, "bean", paramValues));
+    }
+
+    private static void assertBudget(String name, long budget, Supplier<ValidationResult> validation) {
+        final long bytes = bytesPerCall(validation);
+        Assert.assertTrue(
+            String.format(Locale.ROOT, "%s allocated %d bytes per validation, the budget is %d bytes.", name, bytes,
+                budget), bytes <= budget);
+    }
+
+    private static Supplier<ValidationResult> function(String name, List<String> paramValues) {
+        final ComponentFunction function = registry.getFunction(name);
+        return () -> function.validate(paramValues, new ArrayList<>());
+    }
+
+    private static Supplier<ValidationResult> interpreted(Class<?> clazz, String methodName, List<String> paramValues) {
+        final Method method = ReflectUtil.getMethodByName(clazz, methodName);
+        return () -> Validation.validateDefaults(new ValidationMetadata(method, paramValues, new ArrayList<>()));
+    }
+
+    private static long bytesPerCall(Supplier<ValidationResult> validation) {
+        for (int index = 0; index < WARMUP; index++) {
+            Assert.assertTrue(validation.get().isSuccess());
+        }
+        final long threadId = Thread.currentThread().getId();
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long before = threadBean.getThreadAllocatedBytes(threadId);
+            for (int index = 0; index < MEASUREMENT; index++) {
+                validation.get();
+            }
+            final long after = threadBean.getThreadAllocatedBytes(threadId);
+            bytes = Math.min(bytes, (after - before) / MEASUREMENT);
+        }
+        return bytes;
+    }
+
+    private void inMethod(@BasicParam(index = 0) @In(values = {1, 2}) int value) {
+
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+import com.cxxwl96.hiatstudio.validate.source.ArgumentFrameReader;
+import com.cxxwl96.hiatstudio.validate.source.ArgumentFrameWriter;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.map.MapUtil;
+
+/**
+ * ArgumentFrameTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:00
+ */
+public class ArgumentFrameTest {
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class);
+
+    @Test
+    public void test() {
+        final Map<String, Object> map = MapUtil.<String, Object>builder("key1", "值").put("key2", 1.5).build();
+        final byte[] frame = new ArgumentFrameWriter().writeInt(Integer.MIN_VALUE)
+            .writeInt(-1)
+            .writeLong(Long.MAX_VALUE)
+            .writeDouble(-0.25)
+            .writeBoolean(true)
+            .writeString("中文")
+            .writeBytes(new byte[] {1, 2})
+            .writeNull()
+            .writeValue(CollUtil.newArrayList(1, "a", null))
+            .writeValue(map)
+            .toByteArray();
+        final List<Object> values = ArgumentFrameReader.read(frame);
+        Assert.assertEquals(10, values.size());
+        Assert.assertEquals(Integer.MIN_VALUE, values.get(0));
+        Assert.assertEquals(-1, values.get(1));
+        Assert.assertEquals(Long.MAX_VALUE, values.get(2));
+        Assert.assertEquals(-0.25, values.get(3));
+        Assert.assertEquals(Boolean.TRUE, values.get(4));
+        Assert.assertEquals("中文", values.get(5));
+        Assert.assertArrayEquals(new byte[] {1, 2}, (byte[]) values.get(6));
+        Assert.assertNull(values.get(7));
+        Assert.assertEquals(Arrays.asList(1, "a", null), values.get(8));
+        Assert.assertEquals(JSON.toJSON(map), values.get(9));
+        // 作为字符串列表时为参数值的文本形式
+        final ParamSource source = ParamSource.ofFrame(ByteBuffer.wrap(frame));
+        Assert.assertEquals("-1", source.get(1));
+        Assert.assertEquals("[1,\"a\",null]", source.get(8));
+    }
+
+    @Test
+    public void testInvoke() throws Throwable {
+        Assert.assertEquals(3, registry.invoke("add",
+            ParamSource.ofFrame(new ArgumentFrameWriter().writeInt(1).writeLong(2).toByteArray())));
+        final Map<String, Object> jsonObj = MapUtil.<String, Object>builder("key1", "value1")
+            .put("key2", CollUtil.newArrayList("value2"))
+            .build();
+        Assert.assertEquals("value1",
+            registry.invoke("json", ParamSource.ofFrame(new ArgumentFrameWriter().writeValue(jsonObj).toByteArray())));
+        Assert.assertEquals("cyk", registry.invoke("bean", ParamSource.ofFrame(new ArgumentFrameWriter().writeString("cyk")
+            .writeInt(18)
+            .writeBoolean(true)
+            .writeString("39793666111")
+            .writeValue(CollUtil.newArrayList("贵州"))
+            .writeValue(jsonObj)
+            .toByteArray())));
+        try {
+            registry.invoke("add", ParamSource.ofFrame(new ArgumentFrameWriter().writeInt(101).writeInt(2).toByteArray()));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("a must be less than or equal to 100, invalid value: 101.", exception.getMessage());
+            // 绑定器抛出的异常作为原因保留
+            Assert.assertNotNull(exception.getCause());
+        }
+    }
+
+    @Test
+    public void testNestingDepth() {
+        // 最多嵌套64层列表
+        final List<Object> values = ArgumentFrameReader.read(new ArgumentFrameWriter().writeValue(nest(64))
+            .toByteArray());
+        Assert.assertEquals(JSON.toJSONString(nest(64)), JSON.toJSONString(values.get(0)));
+        assertTooDeep(new ArgumentFrameWriter().writeValue(nest(65)).toByteArray());
+        // 恶意构造的深度嵌套的参数帧不会导致栈溢出
+        final int depth = 100000;
+        final byte[] frame = new byte[3 + depth * 2 + 1];
+        frame[0] = (byte) 0xA7;
+        frame[1] = 1;
+        frame[2] = 1;
+        for (int index = 0; index < depth; index++) {
+            frame[3 + index * 2] = 8;
+            frame[4 + index * 2] = 1;
+        }
+        assertTooDeep(frame);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformed() {
+        final byte[] frame = new ArgumentFrameWriter().writeString("cyk").toByteArray();
+        ArgumentFrameReader.read(frame, 0, frame.length - 1);
+    }
+
+    private List<Object> nest(int depth) {
+        List<Object> list = CollUtil.newArrayList(1);
+        for (int index = 1; index < depth; index++) {
+            list = CollUtil.newArrayList((Object) list);
+        }
+        return list;
+    }
+
+    private void assertTooDeep(byte[] frame) {
+        try {
+            ArgumentFrameReader.read(frame);
+            Assert.fail("Malformed argument frame is expected.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("Malformed argument frame: nesting is too deep.", exception.getMessage());
+        }
+    }
+}
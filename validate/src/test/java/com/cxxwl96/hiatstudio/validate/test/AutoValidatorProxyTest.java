@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.AbstractComponent;
+import com.cxxwl96.hiatstudio.FunctionInterface;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.proxy.AutoValidatorProxy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+/**
+ * AutoValidatorProxyTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 15:10
+ */
+public class AutoValidatorProxyTest {
+    @Test
+    public void testJdkProxy() {
+        final Greeter greeter = AutoValidatorProxy.buildBean(new GreeterComponent(), Greeter.class);
+        Assert.assertEquals("cyk:18", greeter.greet("cyk", 18));
+        assertFailed(() -> greeter.greet("cyk", 5), "age must be greater than or equal to 10, invalid value: 5.");
+        assertFailed(() -> greeter.greet(" ", 18), "name must not be blank, invalid value:  .");
+    }
+
+    @Test
+    public void testCglibProxy() {
+        final GreeterComponent greeter = AutoValidatorProxy.buildBean(GreeterComponent.class);
+        Assert.assertEquals("cyk:18", greeter.greet("cyk", 18));
+        assertFailed(() -> greeter.greet("cyk", 5), "age must be greater than or equal to 10, invalid value: 5.");
+        // 代理类按类型缓存
+        Assert.assertSame(greeter.getClass(), AutoValidatorProxy.buildBean(GreeterComponent.class).getClass());
+    }
+
+    @Test
+    public void testNonFunctionMethods() {
+        // 非功能接口的方法直接调用，不做校验
+        final GreeterComponent component = new GreeterComponent();
+        final Greeter greeter = AutoValidatorProxy.buildBean(component, Greeter.class);
+        Assert.assertEquals(component.toString(), greeter.toString());
+        Assert.assertEquals(component.hashCode(), greeter.hashCode());
+        final GreeterComponent cglibGreeter = AutoValidatorProxy.buildBean(GreeterComponent.class);
+        Assert.assertEquals(cglibGreeter, cglibGreeter);
+        Assert.assertNotNull(cglibGreeter.toString());
+    }
+
+    private void assertFailed(Runnable runnable, String message) {
+        try {
+            runnable.run();
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals(message, exception.getMessage());
+        }
+    }
+
+    public interface Greeter {
+        String greet(String name, int age);
+    }
+
+    public static class GreeterComponent extends AbstractComponent implements Greeter {
+        @Override
+        @FunctionInterface(name = "greet")
+        public String greet(@BasicParam(index = 0) @NotBlank String name, @BasicParam(index = 1) @Min(10) int age) {
+            return name + ":" + age;
+        }
+    }
+}
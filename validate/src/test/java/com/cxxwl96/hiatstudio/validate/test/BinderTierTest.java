@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.validate.Validation;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinder;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinderCompiler;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinders;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * BinderTierTest
+ * 解释执行、编译期生成的绑定器、运行时编译的绑定器对同样的非法入参返回同样的错误消息
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 23:10
+ */
+public class BinderTierTest {
+    @Test
+    public void testBasicParam() {
+        assertSameError("add", CollUtil.newArrayList("101", "2"));
+        assertSameError("add", CollUtil.newArrayList("-1", "2"));
+        assertSameError("add", CollUtil.newArrayList("a", "2"));
+        assertSameError("add", CollUtil.newArrayList("1"));
+    }
+
+    @Test
+    public void testJsonParam() {
+        assertSameError("json", CollUtil.newArrayList("abc"));
+        assertSameError("json", CollUtil.newArrayList("{\"key1\":\"value1\",\"key2\":[\"a\",\"b\",\"c\"]}"));
+        assertSameError("json", CollUtil.newArrayList());
+    }
+
+    @Test
+    public void testBeanParam() {
+        assertSameError("bean", CollUtil.newArrayList("cyk", "30", "true", "39793666111", "[\"贵州\"]", "{}"));
+        assertSameError("bean", CollUtil.newArrayList(" ", "18", "true", "39793666111", "[\"贵州\"]", "{}"));
+        assertSameError("bean", CollUtil.newArrayList("cyk", "18", "true", "0123", "[\"贵州\"]", "{}"));
+        assertSameError("bean", CollUtil.newArrayList("cyk", "18", "true", "39793666111", "[\"贵州\"]"));
+    }
+
+    private static void assertSameError(String methodName, List<String> paramValues) {
+        final Method method = ReflectUtil.getMethodByName(MyFunctionComponent.class, methodName);
+        final ValidationResult interpreted = ValidationBuilder.builder(
+            new ValidationMetadata(method, new ArrayList<>(paramValues), new ArrayList<>()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+        Assert.assertFalse(interpreted.isSuccess());
+        Assert.assertEquals(interpreted.getErrorMessage(), Validation.validateDefaults(
+            new ValidationMetadata(method, new ArrayList<>(paramValues), new ArrayList<>())).getErrorMessage());
+        Assert.assertEquals(interpreted.getErrorMessage(), bindError(FunctionBinderCompiler.compile(method), paramValues));
+        final FunctionBinder generated = FunctionBinders.find(method);
+        if (generated != null) {
+            Assert.assertEquals(interpreted.getErrorMessage(), bindError(generated, paramValues));
+        }
+    }
+
+    private static String bindError(FunctionBinder binder, List<String> paramValues) {
+        try {
+            binder.bind(new ArrayList<>(paramValues), new ArrayList<>());
+        } catch (Exception exception) {
+            return exception.getMessage();
+        }
+        Assert.fail("Binding is expected to fail.");
+        return null;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.validate.constraint.ConstraintEvaluator;
+import com.cxxwl96.hiatstudio.validate.metadata.ConstraintIndex;
+import com.cxxwl96.hiatstudio.validate.metadata.ParameterConstraint;
+import com.cxxwl96.hiatstudio.validate.utils.ValidationUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.extra.validation.BeanValidationResult;
+
+/**
+ * 快速校验器与hibernate-validator校验结果一致性测试
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 12:40
+ */
+public class ConstraintEvaluatorTest {
+    @Test
+    public void test() {
+        assertSameResult("name", " ");
+        assertSameResult("age", 9);
+        assertSameResult("age", 21);
+        assertSameResult("age", 15);
+        assertSameResult("qq", "0123");
+        assertSameResult("qq", "39793666111");
+        assertSameResult("list", CollUtil.newArrayList("a", "b", "c"));
+        assertSameResult("list", null);
+        assertSameResult("tags", CollUtil.newArrayList());
+        assertSameResult("id", null);
+        assertSameResult("message", "");
+    }
+
+    @Test
+    public void testFallback() {
+        // 指定了校验组的约束回退到hibernate-validator校验
+        final Parameter parameter = getParameter("group");
+        Assert.assertTrue(ConstraintIndex.isConstrained(parameter));
+        Assert.assertFalse(ConstraintIndex.getConstraint(parameter).isFastPath(1));
+        // 无约束的参数
+        Assert.assertFalse(ConstraintIndex.isConstrained(getParameter("free")));
+    }
+
+    @Test
+    public void testBeanConstrained() {
+        // 反射查找约束注解的结果与hibernate-validator一致
+        assertBeanConstrained(false, Plain.class);
+        assertBeanConstrained(true, Holder.class);
+        assertBeanConstrained(true, Derived.class);
+        assertBeanConstrained(true, Elements.class);
+        assertBeanConstrained(true, Cascaded.class);
+    }
+
+    private void assertBeanConstrained(boolean expected, Class<?> beanClass) {
+        Assert.assertEquals(expected, ConstraintIndex.isBeanConstrained(beanClass));
+        Assert.assertEquals(expected, ValidationUtil.getValidator().getConstraintsForClass(beanClass)
+            .isBeanConstrained());
+    }
+
+    private void assertSameResult(String name, Object value) {
+        final ParameterConstraint constraint = ConstraintIndex.getConstraint(getParameter(name));
+        Assert.assertTrue(constraint.isFastPath(value));
+        String fastMessage = null;
+        for (ConstraintEvaluator evaluator : constraint.getEvaluators()) {
+            if (!evaluator.isValid(value)) {
+                fastMessage = evaluator.getErrorMessage(name, value);
+                break;
+            }
+        }
+        // 对照的hibernate-validator校验结果
+        final Holder holder = new Holder();
+        ReflectUtil.setFieldValue(holder, name, value);
+        final BeanValidationResult result = ValidationUtil.warpValidateProperty(holder, name);
+        final String hibernateMessage = result.isSuccess() ? null : result.getErrorMessages().get(0).getMessage();
+        Assert.assertEquals(hibernateMessage, fastMessage);
+    }
+
+    private Parameter getParameter(String name) {
+        final Method method = ReflectUtil.getMethodByName(getClass(), "runMethod");
+        final String[] names = {"name", "age", "qq", "list", "tags", "id", "message", "group", "free"};
+        return method.getParameters()[CollUtil.newArrayList(names).indexOf(name)];
+    }
+
+    private void runMethod(@NotBlank String name, @Min(10) @Max(20) int age,
+        @Pattern(regexp = "[1-9][0-9]{4,10}") String qq, @Size(max = 2) List<String> list,
+        @NotEmpty List<String> tags, @NotNull Long id, @NotEmpty(message = "消息不能为空") String message,
+        @Min(value = 1, groups = Holder.class) long group, String free) {
+
+    }
+
+    private static class Holder {
+        @NotBlank
+        private String name;
+
+        @Min(10)
+        @Max(20)
+        private int age;
+
+        @Pattern(regexp = "[1-9][0-9]{4,10}")
+        private String qq;
+
+        @Size(max = 2)
+        private List<String> list;
+
+        @NotEmpty
+        private List<String> tags;
+
+        @NotNull
+        private Long id;
+
+        @NotEmpty(message = "消息不能为空")
+        private String message;
+    }
+
+    private static class Plain {
+        @Deprecated
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class Derived extends Holder {
+        private String remark;
+    }
+
+    private static class Elements {
+        private List<@NotBlank String> names;
+    }
+
+    private static class Cascaded {
+        @Valid
+        private Plain plain;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionDocument;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.MyComponent;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinders;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * FunctionRegistryTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 15:55
+ */
+public class FunctionRegistryTest {
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class)
+        .register(new MyComponent());
+
+    @Test
+    public void test() throws Throwable {
+        Assert.assertEquals(0, registry.invoke("我的第一个接口", CollUtil.newArrayList()));
+        Assert.assertEquals(3, registry.invoke("add", CollUtil.newArrayList("1", "2")));
+        Assert.assertEquals("value1",
+            registry.invoke("json", CollUtil.newArrayList("{\"key1\":\"value1\",\"key2\":[\"value2\"]}")));
+        Assert.assertEquals("cyk", registry.invoke("bean",
+            CollUtil.newArrayList("cyk", "18", "true", "39793666111", "[\"贵州\"]", "{\"key1\":\"value1\"}")));
+    }
+
+    @Test
+    public void testFailed() throws Throwable {
+        try {
+            registry.invoke("add", CollUtil.newArrayList("101", "2"));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("a must be less than or equal to 100, invalid value: 101.", exception.getMessage());
+        }
+        try {
+            registry.invoke("none", CollUtil.newArrayList());
+            Assert.fail("Function is expected to be absent.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("Function \"none\" does not exist.", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testBinder() {
+        // add可以在编译期生成绑定器，json和bean需要运行时解析json，使用校验处理器
+        Assert.assertNotNull(registry.getFunction("add").getBinder());
+        Assert.assertNotNull(registry.getFunction("我的第一个接口").getBinder());
+        Assert.assertNull(registry.getFunction("json").getBinder());
+        Assert.assertNull(registry.getFunction("bean").getBinder());
+    }
+
+    @Test
+    public void testCompileBinder() throws Throwable {
+        FunctionBinders.setCompileThreshold(2);
+        try {
+            // json没有编译期绑定器，调用次数达到阈值后在后台编译
+            final ComponentFunction function = registry.getFunction("json");
+            final List<String> paramValues = CollUtil.newArrayList("{\"key1\":\"value1\",\"key2\":[\"value2\"]}");
+            Assert.assertEquals("value1", function.invoke(paramValues, CollUtil.newArrayList()));
+            Assert.assertEquals("value1", function.invoke(paramValues, CollUtil.newArrayList()));
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (function.getBinder() == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertNotNull(function.getBinder());
+            Assert.assertEquals("value1", function.invoke(paramValues, CollUtil.newArrayList()));
+            final ValidationResult result = function.validate(CollUtil.newArrayList("abc"), CollUtil.newArrayList());
+            Assert.assertFalse(result.isSuccess());
+            Assert.assertEquals("\"abc\" is not a JSON string", result.getErrorMessage());
+        } finally {
+            FunctionBinders.setCompileThreshold(0);
+        }
+    }
+
+    @Test
+    public void testWarmup() {
+        // 默认不在运行时编译绑定器
+        Assert.assertTrue(registry.getFunction("json").warmup(1).isSuccess());
+        Assert.assertNull(registry.getFunction("json").getBinder());
+        FunctionBinders.setCompileThreshold(1000);
+        try {
+            registry.warmup(10);
+        } finally {
+            FunctionBinders.setCompileThreshold(0);
+        }
+        // 开启运行时编译时，预热后没有编译期绑定器的功能接口也已编译绑定器
+        Assert.assertNotNull(registry.getFunction("json").getBinder());
+        Assert.assertNotNull(registry.getFunction("bean").getBinder());
+        Assert.assertTrue(registry.getFunction("add").warmup(1).isSuccess());
+        // 没有参数示例时只建立约束索引、编译绑定器
+        Assert.assertNull(new FunctionRegistry().register(new MyComponent()).getFunction("我的第一个接口").warmup(1));
+    }
+
+    @Test
+    public void testParamExample() {
+        // 所有提供了参数示例的功能接口都必须能使用参数示例通过校验
+        for (ComponentFunction function : registry.getFunctions()) {
+            if (StrUtil.isBlank(function.getParamExample())) {
+                continue;
+            }
+            final ValidationResult result = function.warmup(1);
+            Assert.assertNotNull(function.getName(), result);
+            Assert.assertTrue(function.getName() + ": " + result.getErrorMessage(), result.isSuccess());
+        }
+    }
+
+    @Test
+    public void testDocument() {
+        final FunctionDocument document = registry.getFunction("add").getDocument();
+        Assert.assertEquals("两数相加", document.getDescription());
+        Assert.assertEquals(CollUtil.newArrayList("a 第一个数，取值范围0~100", "b 第二个数"), document.getParams());
+        Assert.assertEquals("两数之和", document.getReturns());
+        Assert.assertEquals("[\"1\",\"2\"]", document.getParamExample());
+        Assert.assertEquals("这个是接口的功能描述", registry.getFunction("我的第一个接口").getDocument().getDescription());
+        Assert.assertNull(registry.getFunction("json").getDocument());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDuplicate() {
+        registry.register(MyFunctionComponent.class);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.validate.ArgumentValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.Lazy;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationChain;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinderCompiler;
+import com.cxxwl96.hiatstudio.validate.handler.BasicParamHandler;
+import com.cxxwl96.hiatstudio.validate.metadata.ElementMetadata;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.JsonObject;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * LazyTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:10
+ */
+public class LazyTest {
+    private final Method method = ReflectUtil.getMethodByName(this.getClass(), "lazyMethod");
+
+    @Test
+    public void test() throws Exception {
+        // 解析json推迟到第一次读取时
+        final ValidationResult result = validate(CollUtil.newArrayList("1", "abc"));
+        Assert.assertTrue(result.isSuccess());
+        final Lazy<?> lazy = (Lazy<?>) result.getParamValues()[1];
+        Assert.assertFalse(lazy.isMaterialized());
+        assertFailed("\"abc\" is not a JSON string", lazy);
+        // 校验失败同样延迟到第一次读取时
+        final Lazy<?> invalid = (Lazy<?>) validate(
+            CollUtil.newArrayList("1", "{\"key1\":\"value1\",\"key2\":[\"a\",\"b\",\"c\"]}")).getParamValues()[1];
+        assertFailed("key2 size must be between 0 and 2, invalid value: [a, b, c].", invalid);
+        final Lazy<?> valid = (Lazy<?>) validate(CollUtil.newArrayList("1", "{\"key1\":\"value1\"}"))
+            .getParamValues()[1];
+        Assert.assertEquals("value1", ((JsonObject) valid.get()).getKey1());
+        Assert.assertSame(valid.get(), valid.get());
+        // 参数个数、索引等结构错误仍然立即校验
+        Assert.assertFalse(validate(CollUtil.newArrayList("1")).isSuccess());
+    }
+
+    @Test
+    public void testSnapshot() {
+        // 延迟转换的参数保留读取的参数值的快照，之后修改输入的参数不影响转换
+        final List<String> paramValues = CollUtil.newArrayList("1", "{\"key1\":\"value1\"}");
+        final Lazy<?> lazy = (Lazy<?>) validate(paramValues).getParamValues()[1];
+        paramValues.set(1, "abc");
+        Assert.assertEquals("value1", ((JsonObject) lazy.get()).getKey1());
+        // 复用的字节缓冲区
+        final byte[] buffer = "1{\"key1\":\"value1\"}".getBytes(StandardCharsets.UTF_8);
+        final Lazy<?> bytes = (Lazy<?>) validate(ParamSource.ofBytes(buffer, new int[] {0, 1},
+            new int[] {1, buffer.length - 1})).getParamValues()[1];
+        Arrays.fill(buffer, (byte) ' ');
+        Assert.assertEquals("value1", ((JsonObject) bytes.get()).getKey1());
+    }
+
+    @Test
+    public void testCompiled() throws Exception {
+        final Object[] args = FunctionBinderCompiler.compile(method)
+            .bind(CollUtil.newArrayList("1", "abc"), CollUtil.newArrayList());
+        Assert.assertEquals(1, args[0]);
+        assertFailed("\"abc\" is not a JSON string", (Lazy<?>) args[1]);
+        final List<String> paramValues = CollUtil.newArrayList("1", "{\"key1\":\"value1\"}");
+        final Lazy<?> lazy = (Lazy<?>) FunctionBinderCompiler.compile(method)
+            .bind(paramValues, CollUtil.newArrayList())[1];
+        paramValues.set(1, "abc");
+        Assert.assertEquals("value1", ((JsonObject) lazy.get()).getKey1());
+    }
+
+    @Test
+    public void testStructure() {
+        try {
+            ValidationPlan.of(ReflectUtil.getMethodByName(this.getClass(), "basicLazyMethod")).verify();
+            Assert.fail("Structure error is expected.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("Parameter \"a\" can only be Lazy when received by @JsonParam or @BeanParam.",
+                exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testBuilderValidators() {
+        // 只有添加的校验实体时，延迟转换的参数按添加的校验实体立即转换
+        final ValidationResult result = ValidationBuilder.builder(
+                new ValidationMetadata(method, CollUtil.newArrayList("1", "abc"), CollUtil.newArrayList()))
+            .addArgumentValidator(new BasicParamHandler())
+            .addArgumentValidator(new FixedJsonParamHandler())
+            .build()
+            .validate();
+        Assert.assertTrue(result.isSuccess());
+        final Lazy<?> lazy = (Lazy<?>) result.getParamValues()[1];
+        Assert.assertTrue(lazy.isMaterialized());
+        Assert.assertEquals("fixed", ((JsonObject) lazy.get()).getKey1());
+        // 默认的校验实体之外还添加了校验实体时，默认的校验实体同样立即转换
+        final ValidationResult failed = ValidationBuilder.builder(
+                new ValidationMetadata(method, CollUtil.newArrayList("1", "abc"), CollUtil.newArrayList()))
+            .addDefaultValidators()
+            .addArgumentValidator(new BasicParamHandler())
+            .build()
+            .validate();
+        Assert.assertFalse(failed.isSuccess());
+        Assert.assertEquals("\"abc\" is not a JSON string", failed.getErrorMessage());
+    }
+
+    private ValidationResult validate(List<String> paramValues) {
+        return ValidationBuilder.builder(new ValidationMetadata(method, paramValues, CollUtil.newArrayList()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+    }
+
+    private void assertFailed(String message, Lazy<?> lazy) {
+        try {
+            lazy.get();
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals(message, exception.getMessage());
+        }
+        Assert.assertTrue(lazy.isMaterialized());
+    }
+
+    public static class FixedJsonParamHandler implements ArgumentValidatorHandler<JsonParam> {
+        @Override
+        public Object handle(ValidationMetadata metadata, ValidationChain chain, ElementMetadata element) {
+            final JsonObject jsonObject = new JsonObject();
+            jsonObject.setKey1("fixed");
+            return jsonObject;
+        }
+    }
+
+    private void lazyMethod(@BasicParam(index = 0) int a, @JsonParam(index = 1) Lazy<JsonObject> json) {
+    }
+
+    private void basicLazyMethod(@BasicParam(index = 0) Lazy<String> a) {
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinder;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinderCompiler;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.source.LineSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.validation.constraints.Size;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * LineSourceTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 20:30
+ */
+public class LineSourceTest {
+    @Test
+    public void testFile() throws Exception {
+        final File file = File.createTempFile("line-source", ".txt");
+        try {
+            FileUtil.writeUtf8String("贵州\r\n18\n\ntrue", file);
+            final LineSource source = LineSource.of(file.toPath());
+            Assert.assertEquals(4, source.size());
+            Assert.assertEquals(CollUtil.newArrayList("贵州", "18", "", "true"), CollUtil.newArrayList(source));
+            // 文件可以重复遍历
+            Assert.assertEquals("true", source.get(3));
+            final ValidationResult result = validate("listMethod", source);
+            Assert.assertTrue(result.getErrorMessage(), result.isSuccess());
+            Assert.assertSame(source, result.getParamValues()[0]);
+            Assert.assertFalse(validate("sizeMethod", source).isSuccess());
+        } finally {
+            FileUtil.del(file);
+        }
+    }
+
+    @Test
+    public void testStream() {
+        final ValidationResult result = validate("streamMethod", LineSource.of(stream("a\nb\nc")));
+        Assert.assertTrue(result.getErrorMessage(), result.isSuccess());
+        Assert.assertEquals(CollUtil.newArrayList("a", "b", "c"),
+            ((Stream<?>) result.getParamValues()[0]).collect(Collectors.toList()));
+        // 只能读取一次的参数源在遍历时校验个数
+        final Stream<?> lines = (Stream<?>) validate("streamMethod", LineSource.of(stream("a\nb\nc\nd")))
+            .getParamValues()[0];
+        try {
+            lines.count();
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals(
+                "The number of parameters is not equal. 3 parameters are expected, but 4 parameters are obtained.",
+                exception.getMessage());
+        }
+        final LineSource source = LineSource.of(stream("a"));
+        source.iterator();
+        Assert.assertThrows(IllegalStateException.class, source::iterator);
+    }
+
+    @Test
+    public void testStreamAsList() throws Exception {
+        // 只能读取一次的参数源以List接收时复制为列表，可以校验个数约束
+        final ValidationResult result = validate("nonEmptyMethod", LineSource.of(stream("a\nb")));
+        Assert.assertTrue(result.getErrorMessage(), result.isSuccess());
+        final List<?> lines = (List<?>) result.getParamValues()[0];
+        Assert.assertEquals(2, lines.size());
+        Assert.assertEquals(CollUtil.newArrayList("a", "b"), lines);
+        final ValidationResult empty = validate("nonEmptyMethod", LineSource.of(stream("")));
+        Assert.assertFalse(empty.isSuccess());
+        Assert.assertEquals("lines size must be between 1 and 2147483647, invalid value: [].", empty.getErrorMessage());
+        // 以Iterable接收时在复制时校验个数
+        final ValidationResult iterable = validate("sizeMethod", LineSource.of(stream("a\nb\nc")));
+        Assert.assertTrue(iterable.getErrorMessage(), iterable.isSuccess());
+        Assert.assertEquals(3, ((List<?>) iterable.getParamValues()[0]).size());
+        final ValidationResult failed = validate("sizeMethod", LineSource.of(stream("a\nb")));
+        Assert.assertFalse(failed.isSuccess());
+        Assert.assertEquals(
+            "The number of parameters is not equal. 3 parameters are expected, but 2 parameters are obtained.",
+            failed.getErrorMessage());
+        // 运行时编译的绑定器同样复制
+        final FunctionBinder binder = FunctionBinderCompiler.compile(
+            ReflectUtil.getMethodByName(LineSourceTest.class, "nonEmptyMethod"));
+        Assert.assertEquals(CollUtil.newArrayList("a", "b"),
+            binder.bind(LineSource.of(stream("a\nb")), Collections.emptyList())[0]);
+    }
+
+    private ValidationResult validate(String methodName, List<String> paramValues) {
+        return ValidationBuilder.builder(
+            new ValidationMetadata(ReflectUtil.getMethodByName(LineSourceTest.class, methodName), paramValues,
+                Collections.emptyList())).addDefaultValidators().build().validate();
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void listMethod(@ListParam(size = 4) @Size(max = 4) List<String> lines) {
+
+    }
+
+    private void nonEmptyMethod(@ListParam @Size(min = 1) List<String> lines) {
+
+    }
+
+    private void sizeMethod(@ListParam(size = 3) Iterable<String> lines) {
+
+    }
+
+    private void streamMethod(@ListParam(size = 3) Stream<String> lines) {
+
+    }
+}
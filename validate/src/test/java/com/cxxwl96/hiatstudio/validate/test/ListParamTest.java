@@ -17,15 +17,27 @@
 package com.cxxwl96.hiatstudio.validate.test;
 
 import com.cxxwl96.hiatstudio.validate.MethodRunner;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
 import com.cxxwl96.hiatstudio.validate.annotations.ListParam;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.JsonObject;
+import com.cxxwl96.hiatstudio.validate.source.LineSource;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.Size;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
 
 /**
  * ListParamTest
@@ -40,6 +52,53 @@ public class ListParamTest {
         MethodRunner.run(this.getClass(), "runMethod", paramValues);
     }
 
+    @Test
+    public void testTyped() {
+        final ValidationResult result = validate("typedMethod", CollUtil.newArrayList("1", "2", "-3"));
+        Assert.assertTrue(result.getErrorMessage(), result.isSuccess());
+        final Object[] args = result.getParamValues();
+        Assert.assertArrayEquals(new int[] {1, 2, -3}, (int[]) args[0]);
+        Assert.assertEquals(CollUtil.newArrayList(1L, 2L, -3L), args[1]);
+        Assert.assertArrayEquals(new double[] {1, 2, -3}, (double[]) args[2], 0);
+        // 元素上的约束在转换时校验
+        final ValidationResult failed = validate("constrainedMethod", CollUtil.newArrayList("1", "-1"));
+        Assert.assertEquals("ids[1] must be greater than or equal to 0, invalid value: -1.", failed.getErrorMessage());
+        Assert.assertEquals(CollUtil.newArrayList(TimeUnit.SECONDS, TimeUnit.DAYS),
+            validate("enumMethod", CollUtil.newArrayList("SECONDS", "DAYS")).getParamValues()[0]);
+        final ValidationResult beans = validate("beanMethod",
+            CollUtil.newArrayList("{\"key1\":\"value1\"}", "{\"key2\":[\"a\",\"b\",\"c\"]}"));
+        Assert.assertEquals("key2 size must be between 0 and 2, invalid value: [a, b, c].", beans.getErrorMessage());
+        // 只能读取一次的参数源逐行转换
+        final LineSource source = LineSource.of(new ByteArrayInputStream("7\n8".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertArrayEquals(new long[] {7, 8}, (long[]) validate("streamMethod", source).getParamValues()[0]);
+    }
+
+    private ValidationResult validate(String methodName, List<String> paramValues) {
+        return ValidationBuilder.builder(
+            new ValidationMetadata(ReflectUtil.getMethodByName(ListParamTest.class, methodName), paramValues,
+                Collections.emptyList())).addDefaultValidators().build().validate();
+    }
+
+    private void typedMethod(@ListParam int[] ints, @ListParam List<Long> longs, @ListParam double[] doubles) {
+
+    }
+
+    private void constrainedMethod(@ListParam List<@Min(0) Integer> ids) {
+
+    }
+
+    private void enumMethod(@ListParam List<TimeUnit> units) {
+
+    }
+
+    private void beanMethod(@ListParam List<JsonObject> beans) {
+
+    }
+
+    private void streamMethod(@ListParam(size = 2) long[] ids) {
+
+    }
+
     private void runMethod(
         // 接收List<String>
         @ListParam(size = 4) @Size(max = 4) List<String> listParam) {
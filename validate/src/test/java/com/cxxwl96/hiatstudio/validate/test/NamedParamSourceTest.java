@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.binder.FunctionBinderCompiler;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.MyBeanParam;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+import com.cxxwl96.hiatstudio.validate.source.ParamNameTable;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * NamedParamSourceTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:30
+ */
+public class NamedParamSourceTest {
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class);
+
+    @Test
+    public void testNameTable() {
+        final ParamNameTable nameTable = ParamNameTable.of("name", "age", "married", "qq", "age");
+        Assert.assertEquals(4, nameTable.size());
+        for (int slot = 0; slot < nameTable.size(); slot++) {
+            Assert.assertEquals(slot, nameTable.slotOf(nameTable.getName(slot)));
+        }
+        Assert.assertEquals(-1, nameTable.slotOf("none"));
+        Assert.assertEquals(-1, ParamNameTable.EMPTY.slotOf("none"));
+    }
+
+    @Test
+    public void test() throws Throwable {
+        // 编译期生成的绑定器按名称接收
+        Assert.assertNotNull(registry.getFunction("subtract").getBinder());
+        Assert.assertEquals(3, registry.invoke("subtract", NamedParamSource.of(named("b", "2", "a", "5"))));
+        // 参数值可以是UTF-8字节
+        final ParamSource bytes = ParamSource.ofBytes("2".getBytes(StandardCharsets.UTF_8),
+            "5".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(3, registry.invoke("subtract", NamedParamSource.of(new String[] {"b", "a"}, bytes)));
+        // 运行时编译的绑定器与校验处理器同样按名称接收
+        final Method method = ReflectUtil.getMethodByName(MyFunctionComponent.class, "subtract");
+        final NamedParamSource source = NamedParamSource.of(named("a", "7", "b", "4"));
+        Assert.assertArrayEquals(new Object[] {7, 4},
+            FunctionBinderCompiler.compile(method).bind(source, Collections.emptyList()));
+        final ValidationResult result = ValidationBuilder.builder(
+            new ValidationMetadata(method, source, Collections.emptyList())).addDefaultValidators().build().validate();
+        Assert.assertArrayEquals(new Object[] {7, 4}, result.getParamValues());
+    }
+
+    @Test
+    public void testFailed() throws Throwable {
+        try {
+            registry.invoke("subtract", NamedParamSource.of(named("b", "2")));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("Parameter \"a\" requires the named value \"a\".", exception.getMessage());
+        }
+        try {
+            registry.invoke("subtract", CollUtil.newArrayList("5", "2"));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("Parameter \"a\" can only be received by the name \"a\".", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testBean() {
+        // 未标注@JsonParam的字段按字段名接收，@JsonParam未配置name时仍按位置接收
+        final Map<String, String> values = named("qq", "39793666111", "age", "18", "name", "cyk", "married", "true");
+        values.put("addresses", "[\"贵州\"]");
+        values.put("jsonObj", "{\"key1\":\"value1\",\"key2\":[\"value2\"]}");
+        final Method method = ReflectUtil.getMethodByName(NamedParamSourceTest.class, "runMethod");
+        final ValidationResult result = ValidationBuilder.builder(
+            new ValidationMetadata(method, NamedParamSource.of(values), Collections.emptyList()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+        Assert.assertTrue(result.getErrorMessage(), result.isSuccess());
+        final MyBeanParam beanParam = (MyBeanParam) result.getParamValues()[0];
+        Assert.assertEquals("cyk", beanParam.getName());
+        Assert.assertEquals(18, beanParam.getAge());
+        Assert.assertEquals("39793666111", beanParam.getQq());
+        Assert.assertEquals(CollUtil.newArrayList("value2"), beanParam.getKey2());
+    }
+
+    private void runMethod(@BeanParam(size = 6) MyBeanParam beanParam) {
+
+    }
+
+    private static Map<String, String> named(String... namesAndValues) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (int index = 0; index < namesAndValues.length; index += 2) {
+            values.put(namesAndValues[index], namesAndValues[index + 1]);
+        }
+        return values;
+    }
+}
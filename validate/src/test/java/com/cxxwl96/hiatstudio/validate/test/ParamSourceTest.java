@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.alibaba.fastjson.JSON;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import cn.hutool.core.collection.CollUtil;
+
+/**
+ * ParamSourceTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 19:00
+ */
+public class ParamSourceTest {
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class);
+
+    @Test
+    public void test() {
+        final byte[] frame = "18 {\"key1\":\"值\"} true".getBytes(StandardCharsets.UTF_8);
+        final ParamSource source = ParamSource.ofBytes(frame, new int[] {0, 3, frame.length - 4},
+            new int[] {2, frame.length - 8, 4});
+        Assert.assertEquals(CollUtil.newArrayList("18", "{\"key1\":\"值\"}", "true"), source);
+        Assert.assertEquals(18, source.castSimple(0, int.class));
+        Assert.assertEquals(Boolean.TRUE, source.castSimple(2, boolean.class));
+        Assert.assertNull(source.castSimple(1, int.class));
+        Assert.assertFalse(source.isTypeJSON(0));
+        Assert.assertTrue(source.isTypeJSON(1));
+        Assert.assertEquals(JSON.parse("{\"key1\":\"值\"}"), source.parseJson(1));
+
+        final ParamSource chars = ParamSource.of(new StringBuilder("-7"), " [1, 2] ");
+        Assert.assertEquals(-7L, chars.castSimple(0, long.class));
+        Assert.assertTrue(chars.isTypeJSON(1));
+        Assert.assertEquals(JSON.parse("[1,2]"), chars.parseJson(1));
+    }
+
+    @Test
+    public void testInvoke() throws Throwable {
+        Assert.assertEquals(3, registry.invoke("add", ParamSource.ofBytes(bytes("1"), bytes("2"))));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put(bytes("{\"key1\":\"value1\"}")).flip();
+        Assert.assertEquals("value1", registry.invoke("json", ParamSource.ofBuffers(direct)));
+        Assert.assertEquals(0, direct.position());
+        Assert.assertEquals("value1", registry.invoke("json", ParamSource.of("{\"key1\":\"value1\"}")));
+        // 错误消息与字符串参数一致
+        try {
+            registry.invoke("add", ParamSource.ofBytes(bytes("101"), bytes("2")));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("a must be less than or equal to 100, invalid value: 101.", exception.getMessage());
+        }
+        try {
+            registry.invoke("json", ParamSource.ofBytes(bytes("abc")));
+            Assert.fail("Validation is expected to fail.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("\"abc\" is not a JSON string", exception.getMessage());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -16,15 +16,32 @@
 
 package com.cxxwl96.hiatstudio.validate.test;
 
+import com.cxxwl96.hiatstudio.validate.CustomValidatorRegistry;
 import com.cxxwl96.hiatstudio.validate.MethodRunner;
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
 import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.DistinctValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.res.GateValidatorHandler;
 import com.cxxwl96.hiatstudio.validate.res.MyValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.res.NotBlankValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.res.ScriptedValidatorHandler;
 
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
 
 /**
  * ValidationTest
@@ -33,16 +50,178 @@ import cn.hutool.core.collection.CollUtil;
  * @since 2023/3/14 18:08
  */
 public class ParamValidatorTest {
+    private final ScriptedValidatorHandler first = new ScriptedValidatorHandler.First();
+
+    private final ScriptedValidatorHandler second = new ScriptedValidatorHandler.Second();
+
+    private final ScriptedValidatorHandler third = new ScriptedValidatorHandler.Third();
+
+    @Before
+    public void setUp() {
+        CustomValidatorRegistry.register(ScriptedValidatorHandler.First.class, first);
+        CustomValidatorRegistry.register(ScriptedValidatorHandler.Second.class, second);
+        CustomValidatorRegistry.register(ScriptedValidatorHandler.Third.class, third);
+    }
+
+    @After
+    public void tearDown() {
+        CustomValidatorRegistry.setExecutor(null);
+    }
+
+    @Test
+    public void testSetFactory() {
+        // 切换工厂只清除工厂创建的实例，注册的实例保留
+        final MyValidatorHandler created = new MyValidatorHandler();
+        try {
+            CustomValidatorRegistry.setFactory(handlerClass -> created);
+            Assert.assertSame(created, CustomValidatorRegistry.getHandler(MyValidatorHandler.class));
+            Assert.assertSame(first, CustomValidatorRegistry.getHandler(ScriptedValidatorHandler.First.class));
+        } finally {
+            CustomValidatorRegistry.setFactory(null);
+        }
+        Assert.assertNotSame(created, CustomValidatorRegistry.getHandler(MyValidatorHandler.class));
+        Assert.assertSame(first, CustomValidatorRegistry.getHandler(ScriptedValidatorHandler.First.class));
+    }
+
     @Test
     public void test() {
         final List<String> paramValues = CollUtil.newArrayList("aaa", "bbb", "ccc");
         MethodRunner.run(this.getClass(), "runMethod", paramValues);
     }
 
+    @Test
+    public void testIndependent() {
+        Assert.assertTrue(validate("runIndependentMethod", "aaa", "bbb", "ccc").isSuccess());
+        assertFailed("Duplicate arguments are not allowed.", validate("runIndependentMethod", "aaa", "aaa", "ccc"));
+        // 都校验失败时以声明在前的为准
+        assertFailed("Blank arguments are not allowed.", validate("runIndependentMethod", " ", "aaa", "aaa"));
+    }
+
+    @Test
+    public void testFirstErrorWins() {
+        // 声明在后的校验处理器先失败，仍以声明在前的校验处理器的错误为准
+        final CountDownLatch secondFailed = new CountDownLatch(1);
+        first.script((paramValues, chain) -> {
+            await(secondFailed);
+            throw new IllegalArgumentException("first failed.");
+        });
+        second.script((paramValues, chain) -> {
+            secondFailed.countDown();
+            throw new IllegalArgumentException("second failed.");
+        });
+        assertFailed("first failed.", validate("runScriptedMethod", "aaa"));
+        Assert.assertEquals(1, first.getCount());
+        Assert.assertEquals(1, second.getCount());
+    }
+
+    @Test
+    public void testUnwrapException() {
+        // 线程池中抛出的异常从ExecutionException中取出
+        second.script((paramValues, chain) -> {
+            throw new IllegalArgumentException("second failed.");
+        });
+        assertFailed("second failed.", validate("runScriptedMethod", "aaa"));
+        Assert.assertNotSame(Thread.currentThread(), second.getThread());
+    }
+
+    @Test
+    public void testCancelAfterFailure() {
+        final List<Runnable> deferred = deferExecutor();
+        first.script((paramValues, chain) -> {
+            throw new IllegalArgumentException("first failed.");
+        });
+        final int gateCount = GateValidatorHandler.COUNT.get();
+        assertFailed("first failed.", validate("runScriptedMethod", "aaa"));
+        // 排在后面的校验处理器被取消，之后执行也不会调用
+        deferred.forEach(Runnable::run);
+        Assert.assertEquals(1, first.getCount());
+        Assert.assertEquals(0, second.getCount());
+        Assert.assertEquals(0, third.getCount());
+        Assert.assertEquals(gateCount, GateValidatorHandler.COUNT.get());
+    }
+
+    @Test
+    public void testCancelAfterIntercept() {
+        final List<Runnable> deferred = deferExecutor();
+        first.script((paramValues, chain) -> chain.intercept());
+        final int gateCount = GateValidatorHandler.COUNT.get();
+        Assert.assertTrue(validate("runScriptedMethod", "aaa").isSuccess());
+        deferred.forEach(Runnable::run);
+        Assert.assertEquals(0, second.getCount());
+        Assert.assertEquals(0, third.getCount());
+        // 拦截校验链后不再执行后面的自定义校验处理器
+        Assert.assertEquals(gateCount, GateValidatorHandler.COUNT.get());
+    }
+
+    @Test
+    public void testRejected() {
+        // 线程池拒绝时在当前线程执行
+        CustomValidatorRegistry.setExecutor(command -> {
+            throw new RejectedExecutionException();
+        });
+        final int gateCount = GateValidatorHandler.COUNT.get();
+        Assert.assertTrue(validate("runScriptedMethod", "aaa").isSuccess());
+        for (ScriptedValidatorHandler handler : CollUtil.newArrayList(first, second, third)) {
+            Assert.assertEquals(1, handler.getCount());
+            Assert.assertSame(Thread.currentThread(), handler.getThread());
+        }
+        Assert.assertEquals(gateCount + 1, GateValidatorHandler.COUNT.get());
+    }
+
+    @Test
+    public void testRegistry() {
+        // 自定义校验处理器全局复用同一个实例
+        Assert.assertSame(CustomValidatorRegistry.getHandler(MyValidatorHandler.class),
+            CustomValidatorRegistry.getHandler(MyValidatorHandler.class));
+    }
+
+    private ValidationResult validate(String methodName, String... paramValues) {
+        final ValidationMetadata metadata = new ValidationMetadata(ReflectUtil.getMethodByName(getClass(), methodName),
+            CollUtil.newArrayList(paramValues), Collections.emptyList());
+        return ValidationBuilder.builder(metadata).addDefaultValidators().build().validate();
+    }
+
+    private static void assertFailed(String errorMessage, ValidationResult result) {
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals(errorMessage, result.getErrorMessage());
+    }
+
+    // 提交到线程池的任务只记录，不执行
+    private static List<Runnable> deferExecutor() {
+        final List<Runnable> deferred = Collections.synchronizedList(new ArrayList<>());
+        CustomValidatorRegistry.setExecutor(deferred::add);
+        return deferred;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     // size: 长度校验
     // customValidatorHandler: 自定义校验处理器
     @ParamValidator(size = 3, customValidatorHandler = MyValidatorHandler.class)
     private void runMethod() {
 
     }
+
+    // 相互独立的自定义校验处理器并发执行
+    @ParamValidator(size = 3, customValidatorHandler = {
+        NotBlankValidatorHandler.class, DistinctValidatorHandler.class
+    })
+    private void runIndependentMethod() {
+
+    }
+
+    // 相互独立的自定义校验处理器之后是非独立的自定义校验处理器
+    @ParamValidator(customValidatorHandler = {
+        ScriptedValidatorHandler.First.class, ScriptedValidatorHandler.Second.class,
+        ScriptedValidatorHandler.Third.class, GateValidatorHandler.class
+    })
+    private void runScriptedMethod() {
+
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.alibaba.fastjson.util.TypeUtils;
+import com.cxxwl96.hiatstudio.validate.utils.TypeCastUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TypeCastUtilTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 18:40
+ */
+public class TypeCastUtilTest {
+    @Test
+    public void test() {
+        final String[] values = {"0", "18", "-7", "007", "123456789", "999999999999999999", "true", "false"};
+        final Class<?>[] types = {int.class, Integer.class, long.class, Long.class, boolean.class, Boolean.class};
+        for (String value : values) {
+            for (Class<?> type : types) {
+                final Object simpleValue = TypeCastUtil.castSimple(value, type);
+                if (simpleValue != null) {
+                    Assert.assertEquals(value + " -> " + type, TypeUtils.cast(value, type, null), simpleValue);
+                }
+                // 字符序列与字节的转换结果与字符串一致
+                final byte[] bytes = ("[" + value + "]").getBytes(StandardCharsets.UTF_8);
+                Assert.assertEquals(simpleValue, TypeCastUtil.castSimple(new StringBuilder(value), type));
+                Assert.assertEquals(simpleValue, TypeCastUtil.castSimple(bytes, 1, bytes.length - 2, type));
+            }
+        }
+        // 不支持快速转换的交由fastjson转换
+        Assert.assertNull(TypeCastUtil.castSimple("1,000", int.class));
+        Assert.assertNull(TypeCastUtil.castSimple("1.0", int.class));
+        Assert.assertNull(TypeCastUtil.castSimple("1234567890", int.class));
+        Assert.assertNull(TypeCastUtil.castSimple("TRUE", boolean.class));
+        Assert.assertNull(TypeCastUtil.castSimple("1", String.class));
+    }
+}
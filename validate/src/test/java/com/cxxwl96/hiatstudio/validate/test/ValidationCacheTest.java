@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.annotations.ReturnData;
+import com.cxxwl96.hiatstudio.validate.cache.EvictionPolicy;
+import com.cxxwl96.hiatstudio.validate.cache.ValidationCache;
+import com.cxxwl96.hiatstudio.validate.res.MyBeanParam;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+import com.cxxwl96.hiatstudio.validate.res.MyValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * ValidationCacheTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:30
+ */
+public class ValidationCacheTest {
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class);
+
+    @Before
+    public void before() {
+        ValidationCache.enable(EvictionPolicy.LRU, 2, 0);
+    }
+
+    @After
+    public void after() {
+        ValidationCache.disable();
+    }
+
+    @Test
+    public void test() throws Throwable {
+        final ComponentFunction function = registry.getFunction("add");
+        Assert.assertEquals(3, function.invoke(CollUtil.newArrayList("1", "2"), CollUtil.newArrayList()));
+        Assert.assertEquals(3, function.invoke(CollUtil.newArrayList("1", "2"), CollUtil.newArrayList()));
+        Assert.assertEquals(1, ValidationCache.getHitCount());
+        Assert.assertEquals(1, ValidationCache.getMissCount());
+        // 命中时返回参数列表的副本
+        final ValidationResult result = function.validate(CollUtil.newArrayList("1", "2"), CollUtil.newArrayList());
+        result.getParamValues()[0] = 100;
+        Assert.assertArrayEquals(new Object[] {1, 2},
+            function.validate(CollUtil.newArrayList("1", "2"), CollUtil.newArrayList()).getParamValues());
+        // 校验失败也会被缓存
+        for (int i = 0; i < 2; i++) {
+            final ValidationResult failed = function.validate(CollUtil.newArrayList("101", "2"),
+                CollUtil.newArrayList());
+            Assert.assertFalse(failed.isSuccess());
+            Assert.assertEquals("a must be less than or equal to 100, invalid value: 101.", failed.getErrorMessage());
+        }
+        Assert.assertEquals(4, ValidationCache.getHitCount());
+        // 容量为2，最近最少使用的被淘汰
+        function.validate(CollUtil.newArrayList("3", "4"), CollUtil.newArrayList());
+        Assert.assertEquals(2, ValidationCache.size());
+        function.validate(CollUtil.newArrayList("1", "2"), CollUtil.newArrayList());
+        Assert.assertEquals(4, ValidationCache.getHitCount());
+    }
+
+    @Test
+    public void testMutable() throws Throwable {
+        // JavaBean可能被修改，命中时返回深复制的副本
+        final ComponentFunction function = registry.getFunction("bean");
+        final List<String> paramValues = CollUtil.newArrayList("cyk", "18", "true", "39793666111", "[\"贵州\"]",
+            "{\"key1\":\"value1\"}");
+        Assert.assertEquals("cyk", function.invoke(paramValues, CollUtil.newArrayList()));
+        Assert.assertEquals("cyk", function.invoke(paramValues, CollUtil.newArrayList()));
+        Assert.assertEquals(1, ValidationCache.getHitCount());
+        Assert.assertEquals(1, ValidationCache.size());
+        final MyBeanParam first = (MyBeanParam) function.validate(paramValues, CollUtil.newArrayList())
+            .getParamValues()[0];
+        first.setAge(99);
+        first.getAddresses().add("北京");
+        final MyBeanParam second = (MyBeanParam) function.validate(paramValues, CollUtil.newArrayList())
+            .getParamValues()[0];
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(18, second.getAge());
+        Assert.assertEquals(CollUtil.newArrayList("贵州"), second.getAddresses());
+        Assert.assertEquals("value1", second.getJsonObj().getKey1());
+        Assert.assertEquals(3, ValidationCache.getHitCount());
+    }
+
+    @Test
+    public void testNamed() throws Throwable {
+        // 相同的参数值对应不同的参数名时不能命中
+        final ComponentFunction function = registry.getFunction("subtract");
+        Assert.assertEquals(2, function.invoke(named("a", "b"), CollUtil.newArrayList()));
+        Assert.assertEquals(-2, function.invoke(named("b", "a"), CollUtil.newArrayList()));
+        Assert.assertEquals(0, ValidationCache.getHitCount());
+        Assert.assertEquals(2, function.invoke(named("a", "b"), CollUtil.newArrayList()));
+        Assert.assertEquals(1, ValidationCache.getHitCount());
+    }
+
+    @Test
+    public void testCacheable() {
+        Assert.assertTrue(ValidationPlan.of(ReflectUtil.getMethodByName(getClass(), "plain")).isCacheable());
+        Assert.assertFalse(ValidationPlan.of(ReflectUtil.getMethodByName(getClass(), "returnData")).isCacheable());
+        Assert.assertFalse(ValidationPlan.of(ReflectUtil.getMethodByName(getClass(), "custom")).isCacheable());
+    }
+
+    private static NamedParamSource named(String first, String second) {
+        return NamedParamSource.of(new String[] {first, second}, ParamSource.of("5", "3"));
+    }
+
+    private void plain(@BasicParam(index = 0) String name) {
+    }
+
+    private void returnData(@BasicParam(index = 0) String name, @ReturnData List<String> returnData) {
+    }
+
+    @ParamValidator(customValidatorHandler = MyValidatorHandler.class)
+    private void custom(@BasicParam(index = 0) String name) {
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.ComponentFunction;
+import com.cxxwl96.hiatstudio.FunctionRegistry;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.cache.ValidationCoalescer;
+import com.cxxwl96.hiatstudio.validate.res.GateValidatorHandler;
+import com.cxxwl96.hiatstudio.validate.res.JsonObject;
+import com.cxxwl96.hiatstudio.validate.res.MyFunctionComponent;
+import com.cxxwl96.hiatstudio.validate.source.NamedParamSource;
+import com.cxxwl96.hiatstudio.validate.source.ParamSource;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import cn.hutool.core.collection.CollUtil;
+
+/**
+ * ValidationCoalescerTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:50
+ */
+public class ValidationCoalescerTest {
+    private static final int THREADS = 8;
+
+    private final FunctionRegistry registry = new FunctionRegistry().register(MyFunctionComponent.class);
+
+    @Before
+    public void setUp() {
+        ValidationCoalescer.setEnabled(true);
+        GateValidatorHandler.gate = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        GateValidatorHandler.gate.countDown();
+        GateValidatorHandler.gate = null;
+        ValidationCoalescer.setEnabled(false);
+    }
+
+    @Test
+    public void test() throws Exception {
+        for (ValidationResult result : validateConcurrently("square", index -> CollUtil.newArrayList("3"), 1)) {
+            Assert.assertArrayEquals(new Object[] {3}, result.getParamValues());
+        }
+    }
+
+    @Test
+    public void testJsonParam() throws Exception {
+        final List<ValidationResult> results = validateConcurrently("gatedJson",
+            index -> CollUtil.newArrayList("{\"key1\":\"value1\"}"), 1);
+        // 等待的线程共享校验结果，但各自得到JavaBean的副本
+        final Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ValidationResult result : results) {
+            final JsonObject jsonObject = (JsonObject) result.getParamValues()[0];
+            Assert.assertEquals("value1", jsonObject.getKey1());
+            instances.add(jsonObject);
+        }
+        Assert.assertEquals(THREADS, instances.size());
+    }
+
+    @Test
+    public void testNamed() throws Exception {
+        // 相同的参数值对应不同的参数名时是不同的校验，不能合并
+        final List<ValidationResult> results = validateConcurrently("gatedSubtract",
+            index -> NamedParamSource.of(index % 2 == 0 ? new String[] {"a", "b"} : new String[] {"b", "a"},
+                ParamSource.of("5", "3")), 2);
+        for (int index = 0; index < THREADS; index++) {
+            Assert.assertArrayEquals(index % 2 == 0 ? new Object[] {5, 3} : new Object[] {3, 5},
+                results.get(index).getParamValues());
+        }
+    }
+
+    // 每组相同入参的第一个线程在校验中等待，其他线程全部等待其结果后再放行，每组校验只执行一次
+    private List<ValidationResult> validateConcurrently(String functionName, IntFunction<List<String>> paramValues,
+        int validations) throws InterruptedException {
+        final ComponentFunction function = registry.getFunction(functionName);
+        final int count = GateValidatorHandler.COUNT.get();
+        final long coalesced = ValidationCoalescer.getCoalescedCount();
+        final ValidationResult[] results = new ValidationResult[THREADS];
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final int index = i;
+            final List<String> values = paramValues.apply(index);
+            threads.add(new Thread(() -> results[index] = function.validate(values, CollUtil.newArrayList())));
+        }
+        threads.forEach(Thread::start);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (GateValidatorHandler.COUNT.get() - count < validations || !allWaiting(threads)) {
+            Assert.assertTrue("threads did not reach the gate", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+        GateValidatorHandler.gate.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        Assert.assertEquals(validations, GateValidatorHandler.COUNT.get() - count);
+        Assert.assertEquals(THREADS - validations, ValidationCoalescer.getCoalescedCount() - coalesced);
+        for (ValidationResult result : results) {
+            Assert.assertTrue(result.isSuccess());
+        }
+        return CollUtil.newArrayList(results);
+    }
+
+    private boolean allWaiting(List<Thread> threads) {
+        for (Thread thread : threads) {
+            if (thread.getState() != Thread.State.WAITING) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
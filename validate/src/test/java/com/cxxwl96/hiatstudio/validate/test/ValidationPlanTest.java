@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021-2023, jad (cxxwl96@sina.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cxxwl96.hiatstudio.validate.test;
+
+import com.cxxwl96.hiatstudio.validate.ValidationBuilder;
+import com.cxxwl96.hiatstudio.validate.ValidationPlan;
+import com.cxxwl96.hiatstudio.validate.ValidationResult;
+import com.cxxwl96.hiatstudio.validate.annotations.BasicParam;
+import com.cxxwl96.hiatstudio.validate.annotations.BeanParam;
+import com.cxxwl96.hiatstudio.validate.annotations.JsonParam;
+import com.cxxwl96.hiatstudio.validate.annotations.ParamValidator;
+import com.cxxwl96.hiatstudio.validate.metadata.ValidationMetadata;
+import com.cxxwl96.hiatstudio.validate.res.GateValidatorHandler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.validation.constraints.NotBlank;
+
+import com.alibaba.fastjson.JSONObject;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ReflectUtil;
+
+/**
+ * ValidationPlanTest
+ *
+ * @author cxxwl96
+ * @since 2026/10/19 17:40
+ */
+public class ValidationPlanTest {
+    @Test
+    public void testDuplicateIndex() {
+        final Method method = ReflectUtil.getMethodByName(this.getClass(), "duplicateIndexMethod");
+        final ValidationResult result = ValidationBuilder.builder(
+            new ValidationMetadata(method, CollUtil.newArrayList("1", "2"), CollUtil.newArrayList()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals("Parameters \"a\" and \"b\" have the same index 0.", result.getErrorMessage());
+    }
+
+    @Test
+    public void testNotBean() {
+        final Method method = ReflectUtil.getMethodByName(this.getClass(), "notBeanMethod");
+        try {
+            ValidationPlan.of(method).verify();
+            Assert.fail("Structure error is expected.");
+        } catch (IllegalArgumentException exception) {
+            Assert.assertEquals("The type of parameter \"value\" is not a standard Javabeans", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testCheckArguments() {
+        final Method method = ReflectUtil.getMethodByName(this.getClass(), "checkedMethod");
+        // 结构检查先于json解析，索引越界、空白字符串在解析json之前被拒绝
+        Assert.assertEquals("Out of range. There are only 1 input parameters, but \"name\" takes a 2 parameter.",
+            validate(method, CollUtil.newArrayList("abc")).getErrorMessage());
+        Assert.assertEquals("name must not be blank, invalid value:  .",
+            validate(method, CollUtil.newArrayList("abc", " ")).getErrorMessage());
+        Assert.assertEquals("\"abc\" is not a JSON string",
+            validate(method, CollUtil.newArrayList("abc", "cyk")).getErrorMessage());
+        Assert.assertTrue(validate(method, CollUtil.newArrayList("{}", "cyk")).isSuccess());
+    }
+
+    @Test
+    public void testCheckBeforeCustomValidator() {
+        final Method method = ReflectUtil.getMethodByName(this.getClass(), "customCheckedMethod");
+        final int count = GateValidatorHandler.COUNT.get();
+        // @ParamValidator的参数个数优先于其他结构检查，结构错误的入参不执行自定义校验处理器
+        Assert.assertEquals(
+            "The number of parameters is not equal. 2 parameters are expected, but 1 parameters are obtained.",
+            validate(method, CollUtil.newArrayList("abc")).getErrorMessage());
+        Assert.assertEquals("name must not be blank, invalid value:  .",
+            validate(method, CollUtil.newArrayList("abc", " ")).getErrorMessage());
+        Assert.assertEquals(count, GateValidatorHandler.COUNT.get());
+        Assert.assertTrue(validate(method, CollUtil.newArrayList("{}", "cyk")).isSuccess());
+        Assert.assertEquals(count + 1, GateValidatorHandler.COUNT.get());
+    }
+
+    private ValidationResult validate(Method method, List<String> paramValues) {
+        return ValidationBuilder.builder(new ValidationMetadata(method, paramValues, CollUtil.newArrayList()))
+            .addDefaultValidators()
+            .build()
+            .validate();
+    }
+
+    @ParamValidator(size = 2, customValidatorHandler = GateValidatorHandler.class)
+    private void customCheckedMethod(@JsonParam(index = 0) JSONObject json,
+        @BasicParam(index = 1) @NotBlank String name) {
+    }
+
+    private void checkedMethod(@JsonParam(index = 0) JSONObject json, @BasicParam(index = 1) @NotBlank String name) {
+    }
+
+    private void duplicateIndexMethod(@BasicParam(index = 0) int a, @BasicParam(index = 0) int b) {
+    }
+
+    private void notBeanMethod(@BeanParam Integer value) {
+    }
+}